@@ -0,0 +1,66 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.topobyte.jts.utils.PolygonHelper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class MultipolygonBenchmark
+{
+
+	@Param({ "10", "100", "1000", "10000" })
+	public int numRings;
+
+	private Set<LinearRing> rings;
+
+	@Setup
+	public void setup()
+	{
+		rings = Shapes.rings(numRings, 1);
+	}
+
+	@Benchmark
+	public MultiPolygon multipolygonFromRings()
+	{
+		// the set is only modified when validity is checked
+		return PolygonHelper.multipolygonFromRings(rings, false);
+	}
+
+}
@@ -0,0 +1,89 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.topobyte.jts.utils.pca.PCA;
+import de.topobyte.jts.utils.pca.PCAStreaming;
+import de.topobyte.jts.utils.pca.PCAUtil;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PCABenchmark
+{
+
+	@Param({ Shapes.STAR, Shapes.COASTLINE, Shapes.HOLES })
+	public String shape;
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private Geometry geometry;
+
+	@Setup
+	public void setup()
+	{
+		geometry = Shapes.create(shape, size, 1);
+	}
+
+	@Benchmark
+	public PCA pca()
+	{
+		return new PCA(geometry);
+	}
+
+	@Benchmark
+	public PCAStreaming pcaStreaming()
+	{
+		return new PCAStreaming(geometry);
+	}
+
+	@Benchmark
+	public List<Polygon> pcaSplitRectangles()
+	{
+		return PCAUtil.createSplitRectangles(new PCA(geometry), 0.5, 1.1);
+	}
+
+	@Benchmark
+	public List<Polygon> pcaStreamingSplitRectangles()
+	{
+		return PCAUtil.createSplitRectangles(new PCAStreaming(geometry), 0.5,
+				1.1);
+	}
+
+}
@@ -0,0 +1,83 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.topobyte.jts.utils.polygons.split.ForkJoinPolygonSplitter;
+import de.topobyte.jts.utils.polygons.split.PolygonSplitUtil;
+import de.topobyte.jts.utils.polygons.split.SplitMode;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PolygonSplitBenchmark
+{
+
+	@Param({ Shapes.STAR, Shapes.COASTLINE, Shapes.HOLES })
+	public String shape;
+
+	@Param({ "10000", "100000" })
+	public int size;
+
+	@Param({ "1000" })
+	public int maxPoints;
+
+	@Param({ "PCA", "VERTICAL", "HORIZONTAL", "ALTERNATING", "COST" })
+	public SplitMode mode;
+
+	private Geometry geometry;
+	private ForkJoinPolygonSplitter forkJoinSplitter;
+
+	@Setup
+	public void setup()
+	{
+		geometry = Shapes.create(shape, size, 1);
+		forkJoinSplitter = new ForkJoinPolygonSplitter();
+	}
+
+	@Benchmark
+	public List<Geometry> split()
+	{
+		return PolygonSplitUtil.split(geometry, maxPoints, mode);
+	}
+
+	@Benchmark
+	public List<Geometry> splitForkJoin()
+	{
+		return forkJoinSplitter.split(geometry, maxPoints, mode);
+	}
+
+}
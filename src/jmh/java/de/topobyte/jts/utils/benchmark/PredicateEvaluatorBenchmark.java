@@ -0,0 +1,195 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.benchmark;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.topobyte.jts.utils.predicate.PredicateEvaluator;
+import de.topobyte.jts.utils.predicate.PredicateEvaluatorFactorySplit;
+import de.topobyte.jts.utils.predicate.PredicateEvaluatorGrid;
+import de.topobyte.jts.utils.predicate.PredicateEvaluatorJts;
+import de.topobyte.jts.utils.predicate.PredicateEvaluatorPrepared;
+import de.topobyte.jts.utils.predicate.PredicateEvaluatorRectangle;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateEvaluatorBenchmark
+{
+
+	private static final int NUM_QUERIES = 1024;
+	private static final int BATCH_SIZE = 4096;
+
+	@Param({ Shapes.STAR, Shapes.COASTLINE, Shapes.HOLES })
+	public String shape;
+
+	@Param({ "10000" })
+	public int size;
+
+	@Param({ "jts", "prepared", "prepared-tiers", "rectangle", "grid",
+			"split" })
+	public String evaluator;
+
+	private PredicateEvaluator predicateEvaluator;
+
+	private Coordinate[] points;
+	private Envelope[] envelopes;
+	private Geometry[] geometries;
+	private double[] xs;
+	private double[] ys;
+	private BitSet result;
+	private int index = 0;
+
+	@Setup
+	public void setup()
+	{
+		Geometry geometry = Shapes.create(shape, size, 1);
+		predicateEvaluator = createEvaluator(geometry);
+
+		Envelope bounds = geometry.getEnvelopeInternal();
+		Random random = new Random(2);
+		GeometryFactory factory = new GeometryFactory();
+
+		points = new Coordinate[NUM_QUERIES];
+		envelopes = new Envelope[NUM_QUERIES];
+		geometries = new Geometry[NUM_QUERIES];
+		for (int i = 0; i < NUM_QUERIES; i++) {
+			Coordinate c = randomCoordinate(random, bounds);
+			points[i] = c;
+			double w = bounds.getWidth() * random.nextDouble() * 0.05;
+			double h = bounds.getHeight() * random.nextDouble() * 0.05;
+			envelopes[i] = new Envelope(c.x, c.x + w, c.y, c.y + h);
+			Coordinate d = new Coordinate(c.x + w, c.y + h);
+			geometries[i] = factory
+					.createLineString(new Coordinate[] { c, d });
+		}
+
+		xs = new double[BATCH_SIZE];
+		ys = new double[BATCH_SIZE];
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			Coordinate c = randomCoordinate(random, bounds);
+			xs[i] = c.x;
+			ys[i] = c.y;
+		}
+		result = new BitSet(BATCH_SIZE);
+	}
+
+	private PredicateEvaluator createEvaluator(Geometry geometry)
+	{
+		switch (evaluator) {
+		case "jts":
+			return new PredicateEvaluatorJts(geometry);
+		case "prepared":
+			return new PredicateEvaluatorPrepared(geometry);
+		case "prepared-tiers":
+			return new PredicateEvaluatorPrepared(geometry, true);
+		case "rectangle":
+			return new PredicateEvaluatorRectangle(
+					geometry.getEnvelopeInternal());
+		case "grid":
+			return new PredicateEvaluatorGrid(geometry, 256);
+		case "split":
+			return new PredicateEvaluatorFactorySplit()
+					.createPredicateEvaluator(geometry);
+		default:
+			throw new IllegalArgumentException(
+					"unknown evaluator: " + evaluator);
+		}
+	}
+
+	private static Coordinate randomCoordinate(Random random, Envelope bounds)
+	{
+		// sample from a slightly larger area to include points outside
+		double x = bounds.getMinX()
+				+ (random.nextDouble() * 1.2 - 0.1) * bounds.getWidth();
+		double y = bounds.getMinY()
+				+ (random.nextDouble() * 1.2 - 0.1) * bounds.getHeight();
+		return new Coordinate(x, y);
+	}
+
+	private int next()
+	{
+		index = (index + 1) & (NUM_QUERIES - 1);
+		return index;
+	}
+
+	@Benchmark
+	public boolean coversPoint()
+	{
+		return predicateEvaluator.covers(points[next()]);
+	}
+
+	@Benchmark
+	public boolean containsPoint()
+	{
+		return predicateEvaluator.contains(points[next()]);
+	}
+
+	@Benchmark
+	public BitSet coversPointBatch()
+	{
+		predicateEvaluator.covers(xs, ys, result);
+		return result;
+	}
+
+	@Benchmark
+	public boolean intersectsEnvelope()
+	{
+		return predicateEvaluator.intersects(envelopes[next()]);
+	}
+
+	@Benchmark
+	public boolean coversEnvelope()
+	{
+		return predicateEvaluator.covers(envelopes[next()]);
+	}
+
+	@Benchmark
+	public boolean intersectsGeometry()
+	{
+		return predicateEvaluator.intersects(geometries[next()]);
+	}
+
+	@Benchmark
+	public boolean coversGeometry()
+	{
+		return predicateEvaluator.covers(geometries[next()]);
+	}
+
+}
@@ -0,0 +1,183 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.benchmark;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Generators for synthetic, but realistically shaped geometries used in
+ * benchmarks. All generators are deterministic for a given seed.
+ */
+public class Shapes
+{
+
+	private static final GeometryFactory factory = new GeometryFactory();
+
+	public static final String STAR = "star";
+	public static final String COASTLINE = "coastline";
+	public static final String HOLES = "holes";
+
+	/**
+	 * Create a polygon of one of the named shapes with approximately the
+	 * specified number of points.
+	 */
+	public static Polygon create(String shape, int numPoints, long seed)
+	{
+		switch (shape) {
+		case STAR:
+			return star(numPoints, 50, 100, seed);
+		case COASTLINE:
+			return coastline(numPoints, 0.6, seed);
+		case HOLES:
+			int numHoles = Math.max(1, numPoints / 32);
+			return holes(numHoles, 32, seed);
+		default:
+			throw new IllegalArgumentException("unknown shape: " + shape);
+		}
+	}
+
+	/**
+	 * A star with spikes alternating between an inner and an outer radius,
+	 * slightly perturbed.
+	 */
+	public static Polygon star(int numPoints, double inner, double outer,
+			long seed)
+	{
+		Random random = new Random(seed);
+		double jitter = (outer - inner) * 0.1;
+		Coordinate[] coords = new Coordinate[numPoints + 1];
+		for (int i = 0; i < numPoints; i++) {
+			double angle = 2 * Math.PI * i / numPoints;
+			double r = (i % 2 == 0 ? outer : inner)
+					+ random.nextDouble() * jitter;
+			coords[i] = new Coordinate(r * Math.cos(angle),
+					r * Math.sin(angle));
+		}
+		coords[numPoints] = coords[0];
+		return factory.createPolygon(coords);
+	}
+
+	/**
+	 * An island with a fractal coastline. The radius is generated by
+	 * one-dimensional midpoint displacement over the angle, which yields a
+	 * star-shaped and therefore always simple polygon.
+	 * 
+	 * @param roughness
+	 *            the factor by which the displacement is reduced in each
+	 *            subdivision step, within (0, 1).
+	 */
+	public static Polygon coastline(int numPoints, double roughness,
+			long seed)
+	{
+		Random random = new Random(seed);
+		int n = Integer.highestOneBit(Math.max(4, numPoints));
+		double[] radius = new double[n + 1];
+		radius[0] = radius[n] = 100;
+		double amplitude = 40;
+		for (int step = n; step > 1; step /= 2) {
+			for (int i = 0; i < n; i += step) {
+				double mid = (radius[i] + radius[i + step]) / 2;
+				double displacement = (random.nextDouble() * 2 - 1) * amplitude;
+				radius[i + step / 2] = Math.max(10, mid + displacement);
+			}
+			amplitude *= roughness;
+		}
+
+		Coordinate[] coords = new Coordinate[n + 1];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			coords[i] = new Coordinate(radius[i] * Math.cos(angle),
+					radius[i] * Math.sin(angle));
+		}
+		coords[n] = coords[0];
+		return factory.createPolygon(coords);
+	}
+
+	/**
+	 * A square with a regular grid of circular holes whose centers are
+	 * slightly perturbed.
+	 */
+	public static Polygon holes(int numHoles, int pointsPerHole, long seed)
+	{
+		Random random = new Random(seed);
+		int k = (int) Math.ceil(Math.sqrt(numHoles));
+		double cell = 10;
+		double size = k * cell;
+		LinearRing shell = square(0, 0, size);
+
+		LinearRing[] holes = new LinearRing[numHoles];
+		for (int i = 0; i < numHoles; i++) {
+			double cx = (i % k + 0.5) * cell + (random.nextDouble() - 0.5);
+			double cy = (i / k + 0.5) * cell + (random.nextDouble() - 0.5);
+			holes[i] = circle(cx, cy, cell * 0.3, pointsPerHole);
+		}
+		return factory.createPolygon(shell, holes);
+	}
+
+	/**
+	 * A set of rings as they appear in multipolygon relations: a grid of
+	 * shells, each containing a hole, which in turn contains an island.
+	 */
+	public static Set<LinearRing> rings(int numRings, long seed)
+	{
+		Random random = new Random(seed);
+		int groups = Math.max(1, numRings / 3);
+		int k = (int) Math.ceil(Math.sqrt(groups));
+		double cell = 10;
+
+		Set<LinearRing> rings = new LinkedHashSet<>();
+		for (int i = 0; i < groups; i++) {
+			double x = (i % k) * cell;
+			double y = (i / k) * cell;
+			double d = random.nextDouble() * 0.5;
+			rings.add(square(x + d, y + d, cell * 0.9));
+			rings.add(circle(x + cell / 2, y + cell / 2, cell * 0.35, 32));
+			rings.add(circle(x + cell / 2, y + cell / 2, cell * 0.15, 16));
+		}
+		return rings;
+	}
+
+	private static LinearRing square(double x, double y, double size)
+	{
+		return factory.createLinearRing(new Coordinate[] {
+				new Coordinate(x, y), new Coordinate(x + size, y),
+				new Coordinate(x + size, y + size),
+				new Coordinate(x, y + size), new Coordinate(x, y) });
+	}
+
+	private static LinearRing circle(double cx, double cy, double r,
+			int numPoints)
+	{
+		Coordinate[] coords = new Coordinate[numPoints + 1];
+		for (int i = 0; i < numPoints; i++) {
+			double angle = 2 * Math.PI * i / numPoints;
+			coords[i] = new Coordinate(cx + r * Math.cos(angle),
+					cy + r * Math.sin(angle));
+		}
+		coords[numPoints] = coords[0];
+		return factory.createLinearRing(coords);
+	}
+
+}
@@ -0,0 +1,135 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.topobyte.jts.utils.polygons.split.PolygonSplitUtil;
+import de.topobyte.jts.utils.polygons.split.SplitCache;
+import de.topobyte.jts.utils.polygons.split.SplitMode;
+import de.topobyte.jts.utils.polygons.split.SplitTree;
+
+/**
+ * Compares querying the pieces of a split geometry by envelope from a mapped
+ * {@link SplitCache} with querying the {@link SplitTree} in memory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SplitCacheBenchmark
+{
+
+	private static final int NUM_QUERIES = 1024;
+
+	@Param({ Shapes.STAR, Shapes.COASTLINE, Shapes.HOLES })
+	public String shape;
+
+	@Param({ "100000" })
+	public int size;
+
+	@Param({ "100", "1000" })
+	public int maxPoints;
+
+	private Path file;
+	private SplitCache cache;
+	private SplitTree tree;
+
+	private Envelope[] envelopes;
+	private int index = 0;
+	private int count;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		Geometry geometry = Shapes.create(shape, size, 1);
+		tree = PolygonSplitUtil.splitTree(geometry, maxPoints,
+				SplitMode.ALTERNATING);
+		file = Files.createTempFile("split", ".cache");
+		SplitCache.write(file, geometry, maxPoints, SplitMode.ALTERNATING,
+				tree);
+		cache = SplitCache.open(file);
+		// decode all pieces, so that only the queries are measured
+		for (int i = 0; i < cache.size(); i++) {
+			cache.getPiece(i);
+		}
+
+		Envelope bounds = geometry.getEnvelopeInternal();
+		Random random = new Random(2);
+		envelopes = new Envelope[NUM_QUERIES];
+		for (int i = 0; i < NUM_QUERIES; i++) {
+			double x = bounds.getMinX()
+					+ random.nextDouble() * bounds.getWidth();
+			double y = bounds.getMinY()
+					+ random.nextDouble() * bounds.getHeight();
+			double w = bounds.getWidth() * random.nextDouble() * 0.05;
+			double h = bounds.getHeight() * random.nextDouble() * 0.05;
+			envelopes[i] = new Envelope(x, x + w, y, y + h);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.deleteIfExists(file);
+	}
+
+	private int next()
+	{
+		index = (index + 1) & (NUM_QUERIES - 1);
+		return index;
+	}
+
+	@Benchmark
+	public int queryCache()
+	{
+		count = 0;
+		cache.query(envelopes[next()], piece -> count++);
+		return count;
+	}
+
+	@Benchmark
+	public int queryTree()
+	{
+		count = 0;
+		tree.query(envelopes[next()], leaf -> count++);
+		return count;
+	}
+
+}
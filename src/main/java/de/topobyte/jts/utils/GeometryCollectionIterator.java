@@ -27,6 +27,10 @@ import org.locationtech.jts.geom.GeometryCollection;
  * Just for convenience since the GeometryCollection does not implements
  * Iterable itself.
  * 
+ * This iterator only visits the top level of a collection and can only be
+ * consumed once. See {@link GeometryTraversal} and {@link GeometryCursor} for
+ * traversing nested collections without allocations.
+ * 
  * @author Sebastian Kuerten (sebastian@topobyte.de)
  */
 public class GeometryCollectionIterator implements Iterable<Geometry>,
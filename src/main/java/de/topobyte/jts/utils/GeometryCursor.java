@@ -0,0 +1,157 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+
+/**
+ * A reusable cursor that visits the leaf geometries of arbitrarily nested
+ * geometry collections in depth-first order. Leaves are all geometries that
+ * are not collections themselves, i.e. points, line strings and polygons.
+ * 
+ * Traversal does not allocate any objects per visited geometry. After
+ * {@link #reset(Geometry)} the same instance can be used to traverse another
+ * geometry, reusing its internal stack.
+ * 
+ * Usage:
+ * 
+ * <pre>
+ * GeometryCursor cursor = new GeometryCursor();
+ * cursor.reset(geometry);
+ * while (cursor.next()) {
+ * 	Geometry leaf = cursor.current();
+ * }
+ * </pre>
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class GeometryCursor
+{
+
+	private GeometryCollection[] collections = new GeometryCollection[4];
+	private int[] indices = new int[4];
+	private int depth = -1;
+
+	private Geometry pending = null;
+	private Geometry current = null;
+
+	/**
+	 * Create a cursor that needs to be initialized with
+	 * {@link #reset(Geometry)} before use.
+	 */
+	public GeometryCursor()
+	{
+		// nothing to do
+	}
+
+	/**
+	 * Create a cursor positioned before the first leaf of the specified
+	 * geometry.
+	 */
+	public GeometryCursor(Geometry geometry)
+	{
+		reset(geometry);
+	}
+
+	/**
+	 * Position this cursor before the first leaf of the specified geometry.
+	 * 
+	 * @param geometry
+	 *            the geometry to traverse.
+	 * @return this cursor.
+	 */
+	public GeometryCursor reset(Geometry geometry)
+	{
+		Arrays.fill(collections, 0, depth + 1, null);
+		depth = -1;
+		current = null;
+		pending = null;
+		if (geometry instanceof GeometryCollection) {
+			push((GeometryCollection) geometry);
+		} else {
+			pending = geometry;
+		}
+		return this;
+	}
+
+	/**
+	 * Advance to the next leaf geometry.
+	 * 
+	 * @return whether there was another leaf.
+	 */
+	public boolean next()
+	{
+		if (pending != null) {
+			current = pending;
+			pending = null;
+			return true;
+		}
+		while (depth >= 0) {
+			GeometryCollection collection = collections[depth];
+			int i = indices[depth];
+			if (i >= collection.getNumGeometries()) {
+				collections[depth--] = null;
+				continue;
+			}
+			indices[depth] = i + 1;
+			Geometry child = collection.getGeometryN(i);
+			if (child instanceof GeometryCollection) {
+				push((GeometryCollection) child);
+				continue;
+			}
+			current = child;
+			return true;
+		}
+		current = null;
+		return false;
+	}
+
+	/**
+	 * @return the leaf geometry the cursor is positioned at or null if
+	 *         {@link #next()} has not been called or returned false.
+	 */
+	public Geometry current()
+	{
+		return current;
+	}
+
+	/**
+	 * @return the nesting depth of the current leaf, 0 if the traversed
+	 *         geometry is not a collection itself, 1 for its direct children
+	 *         and so on.
+	 */
+	public int depth()
+	{
+		return depth + 1;
+	}
+
+	private void push(GeometryCollection collection)
+	{
+		depth++;
+		if (depth == collections.length) {
+			collections = Arrays.copyOf(collections, depth * 2);
+			indices = Arrays.copyOf(indices, depth * 2);
+		}
+		collections[depth] = collection;
+		indices[depth] = 0;
+	}
+
+}
@@ -0,0 +1,164 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+
+/**
+ * A spliterator over the leaf geometries of arbitrarily nested geometry
+ * collections. It splits by ranges of children of the traversed collection,
+ * descending into a single remaining child collection if necessary, so that
+ * the parts of huge collections can be processed with parallel streams.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class GeometrySpliterator implements Spliterator<Geometry>
+{
+
+	private GeometryCollection collection;
+	private int index;
+	private int fence;
+
+	private Geometry single;
+
+	// used to traverse nested collections below the split level
+	private GeometryCursor cursor = null;
+	private boolean inCursor = false;
+
+	/**
+	 * Create a spliterator over the leaves of the specified geometry.
+	 */
+	public GeometrySpliterator(Geometry geometry)
+	{
+		if (geometry instanceof GeometryCollection) {
+			collection = (GeometryCollection) geometry;
+			index = 0;
+			fence = collection.getNumGeometries();
+		} else {
+			single = geometry;
+		}
+	}
+
+	private GeometrySpliterator(GeometryCollection collection, int index,
+			int fence)
+	{
+		this.collection = collection;
+		this.index = index;
+		this.fence = fence;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Geometry> action)
+	{
+		if (single != null) {
+			Geometry geometry = single;
+			single = null;
+			action.accept(geometry);
+			return true;
+		}
+		if (inCursor) {
+			if (cursor.next()) {
+				action.accept(cursor.current());
+				return true;
+			}
+			inCursor = false;
+		}
+		while (collection != null && index < fence) {
+			Geometry child = collection.getGeometryN(index++);
+			if (!(child instanceof GeometryCollection)) {
+				action.accept(child);
+				return true;
+			}
+			if (cursor == null) {
+				cursor = new GeometryCursor();
+			}
+			cursor.reset(child);
+			if (cursor.next()) {
+				inCursor = true;
+				action.accept(cursor.current());
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super Geometry> action)
+	{
+		while (inCursor || single != null) {
+			if (!tryAdvance(action)) {
+				return;
+			}
+		}
+		if (collection == null) {
+			return;
+		}
+		for (; index < fence; index++) {
+			GeometryTraversal.forEachLeaf(collection.getGeometryN(index),
+					action);
+		}
+	}
+
+	@Override
+	public Spliterator<Geometry> trySplit()
+	{
+		if (inCursor || collection == null) {
+			return null;
+		}
+		// Descend into a single remaining child collection
+		while (fence - index == 1) {
+			Geometry child = collection.getGeometryN(index);
+			if (!(child instanceof GeometryCollection)) {
+				return null;
+			}
+			collection = (GeometryCollection) child;
+			index = 0;
+			fence = collection.getNumGeometries();
+		}
+		if (fence - index < 2) {
+			return null;
+		}
+		int mid = (index + fence) >>> 1;
+		GeometrySpliterator prefix = new GeometrySpliterator(collection, index,
+				mid);
+		index = mid;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize()
+	{
+		if (single != null) {
+			return 1;
+		}
+		// the number of leaves is unknown, use the number of children
+		long size = fence - index;
+		return inCursor ? size + 1 : size;
+	}
+
+	@Override
+	public int characteristics()
+	{
+		return ORDERED | NONNULL | IMMUTABLE;
+	}
+
+}
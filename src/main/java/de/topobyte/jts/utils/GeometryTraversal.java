@@ -0,0 +1,83 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+
+/**
+ * Utility methods for visiting the leaf geometries of arbitrarily nested
+ * geometry collections. Leaves are all geometries that are not collections
+ * themselves.
+ * 
+ * @see GeometryCursor
+ * @see GeometrySpliterator
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class GeometryTraversal
+{
+
+	/**
+	 * Invoke the specified action for each leaf of the geometry in depth-first
+	 * order.
+	 * 
+	 * @param geometry
+	 *            the geometry to traverse.
+	 * @param action
+	 *            the action to perform for each leaf.
+	 */
+	public static void forEachLeaf(Geometry geometry,
+			Consumer<? super Geometry> action)
+	{
+		if (!(geometry instanceof GeometryCollection)) {
+			action.accept(geometry);
+			return;
+		}
+		int n = geometry.getNumGeometries();
+		for (int i = 0; i < n; i++) {
+			forEachLeaf(geometry.getGeometryN(i), action);
+		}
+	}
+
+	/**
+	 * @return a stream of the leaves of the specified geometry.
+	 */
+	public static Stream<Geometry> leaves(Geometry geometry)
+	{
+		return leaves(geometry, false);
+	}
+
+	/**
+	 * @param geometry
+	 *            the geometry to traverse.
+	 * @param parallel
+	 *            whether to return a parallel stream.
+	 * @return a stream of the leaves of the specified geometry.
+	 */
+	public static Stream<Geometry> leaves(Geometry geometry, boolean parallel)
+	{
+		return StreamSupport.stream(new GeometrySpliterator(geometry),
+				parallel);
+	}
+
+}
@@ -0,0 +1,316 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Dimension;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+
+/**
+ * A {@link GeometryGroup} that answers spatial predicates using an STRtree
+ * over the envelopes of its members, so that the cost of a query depends on
+ * the number of members near the query geometry rather than on the total
+ * number of members. Members with at least a configurable number of points
+ * are additionally prepared.
+ * 
+ * The predicates treat the group as the union of its members. A geometry
+ * that is not covered by a single member is tested for joint coverage by
+ * subtracting the members near it from it one at a time, which stops as soon
+ * as nothing remains. Each of these overlays involves the query geometry and
+ * the part of one member within its envelope only. Containment of
+ * geometries that lie on the boundaries of the members entirely, such as a
+ * line along the edge shared by two members, additionally requires the union
+ * of the members near the geometry.
+ * 
+ * The index is built lazily on first use in a thread-safe manner, so that
+ * instances can be queried from multiple threads concurrently.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class IndexedGeometryGroup extends GeometryGroup
+{
+
+	private static final long serialVersionUID = 6189527046193185312L;
+
+	public static final int DEFAULT_PREPARE_THRESHOLD = 64;
+
+	private int prepareThreshold;
+
+	private transient volatile STRtree index;
+
+	public IndexedGeometryGroup(GeometryFactory factory,
+			Geometry... geometries)
+	{
+		this(factory, DEFAULT_PREPARE_THRESHOLD, geometries);
+	}
+
+	/**
+	 * @param factory
+	 *            the factory to use.
+	 * @param prepareThreshold
+	 *            members with at least this number of points are prepared.
+	 * @param geometries
+	 *            the members of this group.
+	 */
+	public IndexedGeometryGroup(GeometryFactory factory, int prepareThreshold,
+			Geometry... geometries)
+	{
+		super(factory, geometries);
+		this.prepareThreshold = prepareThreshold;
+	}
+
+	public int getPrepareThreshold()
+	{
+		return prepareThreshold;
+	}
+
+	private static class Member
+	{
+
+		final Geometry geometry;
+		final PreparedGeometry prepared;
+
+		Member(Geometry geometry, PreparedGeometry prepared)
+		{
+			this.geometry = geometry;
+			this.prepared = prepared;
+		}
+
+	}
+
+	private STRtree getIndex()
+	{
+		STRtree tree = index;
+		if (tree == null) {
+			synchronized (this) {
+				tree = index;
+				if (tree == null) {
+					tree = buildIndex();
+					index = tree;
+				}
+			}
+		}
+		return tree;
+	}
+
+	private STRtree buildIndex()
+	{
+		STRtree tree = new STRtree();
+		for (Geometry geometry : geometries) {
+			if (geometry.isEmpty()) {
+				continue;
+			}
+			PreparedGeometry prepared = null;
+			if (geometry.getNumPoints() >= prepareThreshold) {
+				prepared = PreparedGeometryFactory.prepare(geometry);
+			}
+			tree.insert(geometry.getEnvelopeInternal(),
+					new Member(geometry, prepared));
+		}
+		// build now, the tree is immutable afterwards
+		tree.build();
+		return tree;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Member> candidates(Envelope envelope)
+	{
+		return getIndex().query(envelope);
+	}
+
+	@Override
+	public boolean intersects(Geometry g)
+	{
+		for (Member member : candidates(g.getEnvelopeInternal())) {
+			if (intersects(member, g)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean covers(Geometry g)
+	{
+		List<Member> candidates = candidates(g.getEnvelopeInternal());
+		for (Member member : candidates) {
+			if (covers(member, g)) {
+				return true;
+			}
+		}
+		if (candidates.size() < 2) {
+			return false;
+		}
+		return coveredJointly(g, candidates);
+	}
+
+	@Override
+	public boolean contains(Geometry g)
+	{
+		List<Member> candidates = candidates(g.getEnvelopeInternal());
+		for (Member member : candidates) {
+			if (contains(member, g)) {
+				return true;
+			}
+		}
+		if (candidates.size() < 2 || !coveredJointly(g, candidates)) {
+			return false;
+		}
+		if (g.getDimension() == Dimension.A) {
+			// the interior of an area covered by the members cannot lie on
+			// their boundaries entirely
+			return true;
+		}
+		for (Member member : candidates) {
+			if (member.geometry.relate(g).get(Location.INTERIOR,
+					Location.INTERIOR) != Dimension.FALSE) {
+				return true;
+			}
+		}
+		// g lies on the boundaries of the members, which might still be
+		// within the interior of their union
+		return union(candidates).contains(g);
+	}
+
+	/**
+	 * Test whether the members jointly cover g. Members not intersecting g's
+	 * envelope cannot contribute, the others are subtracted from g until
+	 * nothing remains. OverlayNG clips each member to the envelope of the
+	 * remainder before computing the difference.
+	 */
+	private static boolean coveredJointly(Geometry g, List<Member> members)
+	{
+		Geometry remaining = g;
+		for (Member member : members) {
+			if (!member.geometry.getEnvelopeInternal()
+					.intersects(remaining.getEnvelopeInternal())
+					|| !intersects(member, remaining)) {
+				continue;
+			}
+			remaining = OverlayNGRobust.overlay(remaining, member.geometry,
+					OverlayNG.DIFFERENCE);
+			if (remaining.isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean intersects(Member member, Geometry g)
+	{
+		if (member.prepared != null) {
+			return member.prepared.intersects(g);
+		}
+		return g.intersects(member.geometry);
+	}
+
+	private static boolean covers(Member member, Geometry g)
+	{
+		if (!member.geometry.getEnvelopeInternal()
+				.covers(g.getEnvelopeInternal())) {
+			return false;
+		}
+		if (member.prepared != null) {
+			return member.prepared.covers(g);
+		}
+		return member.geometry.covers(g);
+	}
+
+	private static boolean contains(Member member, Geometry g)
+	{
+		if (!member.geometry.getEnvelopeInternal()
+				.covers(g.getEnvelopeInternal())) {
+			return false;
+		}
+		if (member.prepared != null) {
+			return member.prepared.contains(g);
+		}
+		return member.geometry.contains(g);
+	}
+
+	private Geometry union(List<Member> members)
+	{
+		List<Geometry> geometries = new ArrayList<>(members.size());
+		for (Member member : members) {
+			geometries.add(member.geometry);
+		}
+		return UnaryUnionOp.union(geometries, getFactory());
+	}
+
+	@Override
+	public double distance(Geometry g)
+	{
+		STRtree tree = getIndex();
+		if (tree.isEmpty() || g.isEmpty()) {
+			return 0.0;
+		}
+		Member nearest = (Member) tree.nearestNeighbour(g.getEnvelopeInternal(),
+				g, new MemberDistance());
+		return nearest.geometry.distance(g);
+	}
+
+	@Override
+	public boolean isWithinDistance(Geometry g, double distance)
+	{
+		Envelope envelope = new Envelope(g.getEnvelopeInternal());
+		envelope.expandBy(distance);
+		for (Member member : candidates(envelope)) {
+			if (member.geometry.isWithinDistance(g, distance)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Distance between a member and the query geometry as used for the
+	 * nearest neighbour search of {@link #distance(Geometry)}.
+	 */
+	private static class MemberDistance implements ItemDistance
+	{
+
+		@Override
+		public double distance(ItemBoundable item1, ItemBoundable item2)
+		{
+			return geometry(item1.getItem()).distance(geometry(item2.getItem()));
+		}
+
+		private static Geometry geometry(Object item)
+		{
+			if (item instanceof Member) {
+				return ((Member) item).geometry;
+			}
+			return (Geometry) item;
+		}
+
+	}
+
+}
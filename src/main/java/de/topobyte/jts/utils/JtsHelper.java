@@ -19,7 +19,6 @@ package de.topobyte.jts.utils;
 
 import com.slimjars.dist.gnu.trove.list.TDoubleList;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -32,6 +31,9 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.LinearRing;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Various utility methods for JTS.
@@ -41,6 +43,10 @@ import org.locationtech.jts.geom.Polygon;
 public class JtsHelper
 {
 
+	final static Logger logger = LoggerFactory.getLogger(JtsHelper.class);
+
+	private static final GeometryFactory DEFAULT_FACTORY = new GeometryFactory();
+
 	/**
 	 * Create a LineString from the denoted list of coordinates. The i'th point
 	 * of the string is represented by (xs[i], ys[i]).
@@ -53,17 +59,26 @@ public class JtsHelper
 	 */
 	public static LineString toLineString(List<Double> xs, List<Double> ys)
 	{
-		GeometryFactory factory = new GeometryFactory();
-		CoordinateSequenceFactory csf = factory.getCoordinateSequenceFactory();
-		int len = xs.size();
+		return toLineString(xs, ys, DEFAULT_FACTORY);
+	}
 
-		CoordinateSequence coords = csf.create(len, 2);
-		for (int i = 0; i < xs.size(); i++) {
-			coords.setOrdinate(i, 0, xs.get(i));
-			coords.setOrdinate(i, 1, ys.get(i));
-		}
-		LineString string = factory.createLineString(coords);
-		return string;
+	/**
+	 * Create a LineString from the denoted list of coordinates. The i'th point
+	 * of the string is represented by (xs[i], ys[i]).
+	 * 
+	 * @param xs
+	 *            the x values.
+	 * @param ys
+	 *            the y values.
+	 * @param factory
+	 *            the factory to use.
+	 * @return the created LineString instance.
+	 */
+	public static LineString toLineString(List<Double> xs, List<Double> ys,
+			GeometryFactory factory)
+	{
+		CoordinateSequence coords = createSequence(xs, ys, false, factory);
+		return factory.createLineString(coords);
 	}
 
 	/**
@@ -78,17 +93,45 @@ public class JtsHelper
 	 */
 	public static LineString toLineString(TDoubleList xs, TDoubleList ys)
 	{
-		GeometryFactory factory = new GeometryFactory();
-		CoordinateSequenceFactory csf = factory.getCoordinateSequenceFactory();
-		int len = xs.size();
+		return toLineString(xs, ys, DEFAULT_FACTORY);
+	}
 
-		CoordinateSequence coords = csf.create(len, 2);
-		for (int i = 0; i < xs.size(); i++) {
-			coords.setOrdinate(i, 0, xs.get(i));
-			coords.setOrdinate(i, 1, ys.get(i));
-		}
-		LineString string = factory.createLineString(coords);
-		return string;
+	/**
+	 * Create a LineString from the denoted list of coordinates. The i'th point
+	 * of the string is represented by (xs[i], ys[i]).
+	 * 
+	 * @param xs
+	 *            the x values.
+	 * @param ys
+	 *            the y values.
+	 * @param factory
+	 *            the factory to use.
+	 * @return the created LineString instance.
+	 */
+	public static LineString toLineString(TDoubleList xs, TDoubleList ys,
+			GeometryFactory factory)
+	{
+		CoordinateSequence coords = createSequence(xs, ys, false, factory);
+		return factory.createLineString(coords);
+	}
+
+	/**
+	 * Create a LineString from the denoted arrays of coordinates. The i'th
+	 * point of the string is represented by (xs[i], ys[i]).
+	 * 
+	 * @param xs
+	 *            the x values.
+	 * @param ys
+	 *            the y values.
+	 * @param factory
+	 *            the factory to use.
+	 * @return the created LineString instance.
+	 */
+	public static LineString toLineString(double[] xs, double[] ys,
+			GeometryFactory factory)
+	{
+		CoordinateSequence coords = createSequence(xs, ys, false, factory);
+		return factory.createLineString(coords);
 	}
 
 	/**
@@ -107,28 +150,33 @@ public class JtsHelper
 	public static LinearRing toLinearRing(List<Double> xs, List<Double> ys,
 			boolean doublePoint)
 	{
-		GeometryFactory factory = new GeometryFactory();
-		CoordinateSequenceFactory csf = factory.getCoordinateSequenceFactory();
-		int len = xs.size();
-		if (!doublePoint)
-			len += 1;
+		return toLinearRing(xs, ys, doublePoint, DEFAULT_FACTORY);
+	}
 
-		if (len > 0 && len < 4) {
-			System.out.println("skipping");
+	/**
+	 * Create a LinearRing from two lists of coordinates. The i'th point of the
+	 * ring is represented by (xs[i], ys[i]).
+	 * 
+	 * @param xs
+	 *            the list of x-coordinates.
+	 * @param ys
+	 *            the list of y-coordinates.
+	 * @param doublePoint
+	 *            whether the first point is explicitly contained in the lists a
+	 *            second time as the last point.
+	 * @param factory
+	 *            the factory to use.
+	 * @return the constructed ring.
+	 */
+	public static LinearRing toLinearRing(List<Double> xs, List<Double> ys,
+			boolean doublePoint, GeometryFactory factory)
+	{
+		if (tooShort(xs.size(), doublePoint)) {
 			return null;
 		}
-
-		CoordinateSequence coords = csf.create(len, 2);
-		for (int i = 0; i < xs.size(); i++) {
-			coords.setOrdinate(i, 0, xs.get(i));
-			coords.setOrdinate(i, 1, ys.get(i));
-		}
-		if (!doublePoint) {
-			coords.setOrdinate(len - 1, 0, xs.get(0));
-			coords.setOrdinate(len - 1, 1, ys.get(0));
-		}
-		LinearRing ring = factory.createLinearRing(coords);
-		return ring;
+		CoordinateSequence coords = createSequence(xs, ys, !doublePoint,
+				factory);
+		return factory.createLinearRing(coords);
 	}
 
 	/**
@@ -147,28 +195,158 @@ public class JtsHelper
 	public static LinearRing toLinearRing(TDoubleList xs, TDoubleList ys,
 			boolean doublePoint)
 	{
-		GeometryFactory factory = new GeometryFactory();
-		CoordinateSequenceFactory csf = factory.getCoordinateSequenceFactory();
-		int len = xs.size();
-		if (!doublePoint)
-			len += 1;
+		return toLinearRing(xs, ys, doublePoint, DEFAULT_FACTORY);
+	}
 
-		if (len > 0 && len < 4) {
-			System.out.println("skipping");
+	/**
+	 * Create a LinearRing from two lists of coordinates. The i'th point of the
+	 * ring is represented by (xs[i], ys[i]).
+	 * 
+	 * @param xs
+	 *            the list of x-coordinates.
+	 * @param ys
+	 *            the list of y-coordinates.
+	 * @param doublePoint
+	 *            whether the first point is explicitly contained in the lists a
+	 *            second time as the last point.
+	 * @param factory
+	 *            the factory to use.
+	 * @return the constructed ring.
+	 */
+	public static LinearRing toLinearRing(TDoubleList xs, TDoubleList ys,
+			boolean doublePoint, GeometryFactory factory)
+	{
+		if (tooShort(xs.size(), doublePoint)) {
+			return null;
+		}
+		CoordinateSequence coords = createSequence(xs, ys, !doublePoint,
+				factory);
+		return factory.createLinearRing(coords);
+	}
+
+	/**
+	 * Create a LinearRing from two arrays of coordinates. The i'th point of
+	 * the ring is represented by (xs[i], ys[i]).
+	 * 
+	 * @param xs
+	 *            the array of x-coordinates.
+	 * @param ys
+	 *            the array of y-coordinates.
+	 * @param doublePoint
+	 *            whether the first point is explicitly contained in the arrays
+	 *            a second time as the last point.
+	 * @param factory
+	 *            the factory to use.
+	 * @return the constructed ring.
+	 */
+	public static LinearRing toLinearRing(double[] xs, double[] ys,
+			boolean doublePoint, GeometryFactory factory)
+	{
+		if (tooShort(xs.length, doublePoint)) {
 			return null;
 		}
+		CoordinateSequence coords = createSequence(xs, ys, !doublePoint,
+				factory);
+		return factory.createLinearRing(coords);
+	}
+
+	private static boolean tooShort(int size, boolean doublePoint)
+	{
+		int len = doublePoint ? size : size + 1;
+		if (len > 0 && len < 4) {
+			logger.debug("skipping ring with {} points", len);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Whether sequences for the specified factory can be created by wrapping
+	 * a packed array of doubles directly.
+	 */
+	private static boolean isPackedDouble(GeometryFactory factory)
+	{
+		CoordinateSequenceFactory csf = factory.getCoordinateSequenceFactory();
+		return csf instanceof PackedCoordinateSequenceFactory
+				&& ((PackedCoordinateSequenceFactory) csf)
+						.getType() == PackedCoordinateSequenceFactory.DOUBLE;
+	}
+
+	private static CoordinateSequence createSequence(List<Double> xs,
+			List<Double> ys, boolean close, GeometryFactory factory)
+	{
+		int size = xs.size();
+		int len = close && size > 0 ? size + 1 : size;
+
+		if (isPackedDouble(factory)) {
+			PackedCoordinateSequenceBuilder builder = new PackedCoordinateSequenceBuilder(
+					len);
+			for (int i = 0; i < size; i++) {
+				builder.add(xs.get(i), ys.get(i));
+			}
+			if (close) {
+				builder.close();
+			}
+			return builder.build();
+		}
+
+		CoordinateSequenceFactory csf = factory.getCoordinateSequenceFactory();
+		CoordinateSequence coords = csf.create(len, 2);
+		for (int i = 0; i < size; i++) {
+			coords.setOrdinate(i, 0, xs.get(i));
+			coords.setOrdinate(i, 1, ys.get(i));
+		}
+		if (len > size) {
+			coords.setOrdinate(len - 1, 0, xs.get(0));
+			coords.setOrdinate(len - 1, 1, ys.get(0));
+		}
+		return coords;
+	}
 
+	private static CoordinateSequence createSequence(TDoubleList xs,
+			TDoubleList ys, boolean close, GeometryFactory factory)
+	{
+		if (isPackedDouble(factory)) {
+			return PackedCoordinateSequenceBuilder.create(xs, ys, close);
+		}
+
+		int size = xs.size();
+		int len = close && size > 0 ? size + 1 : size;
+
+		CoordinateSequenceFactory csf = factory.getCoordinateSequenceFactory();
 		CoordinateSequence coords = csf.create(len, 2);
-		for (int i = 0; i < xs.size(); i++) {
+		for (int i = 0; i < size; i++) {
 			coords.setOrdinate(i, 0, xs.get(i));
 			coords.setOrdinate(i, 1, ys.get(i));
 		}
-		if (!doublePoint) {
+		if (len > size) {
 			coords.setOrdinate(len - 1, 0, xs.get(0));
 			coords.setOrdinate(len - 1, 1, ys.get(0));
 		}
-		LinearRing ring = factory.createLinearRing(coords);
-		return ring;
+		return coords;
+	}
+
+	private static CoordinateSequence createSequence(double[] xs, double[] ys,
+			boolean close, GeometryFactory factory)
+	{
+		if (isPackedDouble(factory)) {
+			return PackedCoordinateSequenceBuilder.create(xs, ys, close);
+		}
+
+		int size = xs.length;
+		int len = close && size > 0 ? size + 1 : size;
+
+		CoordinateSequenceFactory csf = factory.getCoordinateSequenceFactory();
+		CoordinateSequence coords = csf.create(len, 2);
+		for (int i = 0; i < size; i++) {
+			coords.setOrdinate(i, 0, xs[i]);
+			coords.setOrdinate(i, 1, ys[i]);
+		}
+		if (len > size) {
+			coords.setOrdinate(len - 1, 0, xs[0]);
+			coords.setOrdinate(len - 1, 1, ys[0]);
+		}
+		return coords;
 	}
 
 	/**
@@ -180,18 +358,29 @@ public class JtsHelper
 	 */
 	public static Polygon toGeometry(Envelope envelope)
 	{
-		List<Double> xs = new ArrayList<>(4);
-		List<Double> ys = new ArrayList<>(4);
-		xs.add(envelope.getMinX());
-		xs.add(envelope.getMaxX());
-		xs.add(envelope.getMaxX());
-		xs.add(envelope.getMinX());
-		ys.add(envelope.getMinY());
-		ys.add(envelope.getMinY());
-		ys.add(envelope.getMaxY());
-		ys.add(envelope.getMaxY());
-		LinearRing ring = toLinearRing(xs, ys, false);
-		return ring.getFactory().createPolygon(ring, null);
+		return toGeometry(envelope, DEFAULT_FACTORY);
+	}
+
+	/**
+	 * Convert an envelope to a polygon.
+	 * 
+	 * @param envelope
+	 *            the envelope to convert.
+	 * @param factory
+	 *            the factory to use.
+	 * @return the resulting polygon.
+	 */
+	public static Polygon toGeometry(Envelope envelope, GeometryFactory factory)
+	{
+		double minX = envelope.getMinX();
+		double maxX = envelope.getMaxX();
+		double minY = envelope.getMinY();
+		double maxY = envelope.getMaxY();
+		double[] xs = new double[] { minX, maxX, maxX, minX };
+		double[] ys = new double[] { minY, minY, maxY, maxY };
+		LinearRing ring = factory
+				.createLinearRing(createSequence(xs, ys, true, factory));
+		return factory.createPolygon(ring, null);
 	}
 
 	/**
@@ -237,8 +426,23 @@ public class JtsHelper
 	 */
 	public static GeometryCollection collection(List<Geometry> geometries)
 	{
-		return new GeometryFactory().createGeometryCollection(geometries
-				.toArray(new Geometry[geometries.size()]));
+		return collection(geometries, DEFAULT_FACTORY);
+	}
+
+	/**
+	 * Create a GeometryCollection of the specified list of geometries.
+	 * 
+	 * @param geometries
+	 *            the list of geometries
+	 * @param factory
+	 *            the factory to use.
+	 * @return a new GeometryCollection
+	 */
+	public static GeometryCollection collection(List<Geometry> geometries,
+			GeometryFactory factory)
+	{
+		return factory.createGeometryCollection(
+				geometries.toArray(new Geometry[geometries.size()]));
 	}
 
 }
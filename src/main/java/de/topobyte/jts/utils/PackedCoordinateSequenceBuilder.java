@@ -0,0 +1,213 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import com.slimjars.dist.gnu.trove.list.TDoubleList;
+
+/**
+ * A builder for two-dimensional {@link PackedCoordinateSequence}s. Coordinates
+ * are appended to a single interleaved array of primitive doubles that is
+ * handed to the resulting sequence without copying if its capacity has been
+ * chosen to match the number of coordinates exactly. Otherwise the array is
+ * trimmed once on {@link #build()}.
+ * 
+ * Arrays of already interleaved coordinates can be wrapped directly using
+ * {@link #wrap(double[])}.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class PackedCoordinateSequenceBuilder
+{
+
+	private static final double[] EMPTY = new double[0];
+
+	private double[] coords;
+	private int size = 0;
+
+	/**
+	 * Create a builder with a default initial capacity.
+	 */
+	public PackedCoordinateSequenceBuilder()
+	{
+		this(16);
+	}
+
+	/**
+	 * @param capacity
+	 *            the number of coordinates to reserve space for.
+	 */
+	public PackedCoordinateSequenceBuilder(int capacity)
+	{
+		coords = capacity == 0 ? EMPTY : new double[capacity * 2];
+	}
+
+	/**
+	 * Wrap the specified array of interleaved x and y values as a coordinate
+	 * sequence. The array is not copied, hence modifications are visible in
+	 * the returned sequence and vice versa.
+	 * 
+	 * @param packed
+	 *            an array of the form [x0, y0, x1, y1, ...].
+	 * @return a sequence backed by the specified array.
+	 */
+	public static PackedCoordinateSequence.Double wrap(double[] packed)
+	{
+		return new PackedCoordinateSequence.Double(packed, 2, 0);
+	}
+
+	/**
+	 * @return the number of coordinates added so far.
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Make sure there is room for at least the specified number of
+	 * coordinates in total.
+	 * 
+	 * @param capacity
+	 *            the number of coordinates.
+	 */
+	public void ensureCapacity(int capacity)
+	{
+		if (coords.length < capacity * 2) {
+			int grown = Math.max(capacity * 2, coords.length * 2);
+			coords = Arrays.copyOf(coords, grown);
+		}
+	}
+
+	public PackedCoordinateSequenceBuilder add(double x, double y)
+	{
+		ensureCapacity(size + 1);
+		int i = size * 2;
+		coords[i] = x;
+		coords[i + 1] = y;
+		size++;
+		return this;
+	}
+
+	/**
+	 * Append the coordinates (xs[i], ys[i]) for all i in [from, to).
+	 */
+	public PackedCoordinateSequenceBuilder add(double[] xs, double[] ys,
+			int from, int to)
+	{
+		ensureCapacity(size + to - from);
+		int k = size * 2;
+		for (int i = from; i < to; i++) {
+			coords[k++] = xs[i];
+			coords[k++] = ys[i];
+		}
+		size += to - from;
+		return this;
+	}
+
+	public PackedCoordinateSequenceBuilder add(double[] xs, double[] ys)
+	{
+		return add(xs, ys, 0, xs.length);
+	}
+
+	public PackedCoordinateSequenceBuilder add(TDoubleList xs, TDoubleList ys)
+	{
+		int n = xs.size();
+		ensureCapacity(size + n);
+		int k = size * 2;
+		for (int i = 0; i < n; i++) {
+			coords[k++] = xs.get(i);
+			coords[k++] = ys.get(i);
+		}
+		size += n;
+		return this;
+	}
+
+	/**
+	 * Append the sequence's first coordinate once more to close it as a ring.
+	 * Has no effect if the builder is empty.
+	 */
+	public PackedCoordinateSequenceBuilder close()
+	{
+		if (size > 0) {
+			add(coords[0], coords[1]);
+		}
+		return this;
+	}
+
+	/**
+	 * Create a sequence from the coordinates added so far and reset this
+	 * builder. The internal array is passed on without copying if it has
+	 * exactly the required length.
+	 * 
+	 * @return the sequence.
+	 */
+	public PackedCoordinateSequence.Double build()
+	{
+		double[] packed = coords;
+		if (packed.length != size * 2) {
+			packed = Arrays.copyOf(packed, size * 2);
+		}
+		coords = EMPTY;
+		size = 0;
+		return wrap(packed);
+	}
+
+	/**
+	 * Create a sequence from the coordinates (xs[i], ys[i]).
+	 * 
+	 * @param close
+	 *            whether to append the first coordinate once more at the end.
+	 */
+	public static CoordinateSequence create(double[] xs, double[] ys,
+			boolean close)
+	{
+		int n = xs.length;
+		PackedCoordinateSequenceBuilder builder = new PackedCoordinateSequenceBuilder(
+				close && n > 0 ? n + 1 : n);
+		builder.add(xs, ys);
+		if (close) {
+			builder.close();
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Create a sequence from the coordinates (xs[i], ys[i]).
+	 * 
+	 * @param close
+	 *            whether to append the first coordinate once more at the end.
+	 */
+	public static CoordinateSequence create(TDoubleList xs, TDoubleList ys,
+			boolean close)
+	{
+		int n = xs.size();
+		PackedCoordinateSequenceBuilder builder = new PackedCoordinateSequenceBuilder(
+				close && n > 0 ? n + 1 : n);
+		builder.add(xs, ys);
+		if (close) {
+			builder.close();
+		}
+		return builder.build();
+	}
+
+}
@@ -18,13 +18,9 @@
 package de.topobyte.jts.utils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -38,6 +34,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.topobyte.adt.graph.Graph;
+import de.topobyte.jts.utils.polygons.PartitionedUnion;
+import de.topobyte.jts.utils.polygons.RingNesting;
+import de.topobyte.jts.utils.polygons.ShellUnion;
 
 /**
  * Various utility methods concerning polygons.
@@ -77,18 +76,7 @@ public class PolygonHelper
 			LinearRing ring = (LinearRing) polygon.getExteriorRing();
 			return factory.createPolygon(ring, null);
 		} else if (geometry instanceof MultiPolygon) {
-			MultiPolygon mp = (MultiPolygon) geometry;
-			Geometry all = null;
-			for (int i = 0; i < mp.getNumGeometries(); i++) {
-				Geometry child = mp.getGeometryN(i);
-				Geometry childHull = hull(child);
-				if (all == null) {
-					all = childHull;
-				} else {
-					all = all.union(childHull);
-				}
-			}
-			return all;
+			return ShellUnion.union((MultiPolygon) geometry);
 		}
 		return null;
 	}
@@ -117,51 +105,14 @@ public class PolygonHelper
 			}
 		}
 
-		// Build a list of polygons with holes.
 		GeometryFactory factory = new GeometryFactory();
-		List<Polygon> polygons = new ArrayList<>();
 
 		// Setup a graph with rings as nodes and containment represented via
 		// edges
-		Graph<LinearRing> graph = new Graph<>();
-		graph.addNodes(rings);
-
-		// Build a polygon from each ring to determine containment relation
-		Map<LinearRing, Polygon> ringToPolygon = new HashMap<>();
-		for (LinearRing r : rings) {
-			Polygon p = PolygonHelper.polygonFromLinearRing(r, factory);
-			ringToPolygon.put(r, p);
-		}
-
-		// Evaluate containment for each pair of rings
-		for (LinearRing r : rings) {
-			Set<LinearRing> candidates = new HashSet<>();
-			candidates.addAll(rings);
-			candidates.remove(r);
-			Polygon p = ringToPolygon.get(r);
-			List<LinearRing> containedRings = candidates.parallelStream().
-					filter(c -> p.contains(ringToPolygon.get(c))).collect(Collectors.toList());
-			containedRings.forEach(c -> graph.addEdge(r, c));
-		}
+		Graph<LinearRing> graph = RingNesting.containmentGraph(rings, factory);
 
 		// Assemble polygons with holes based on degree of the nodes
-		for (LinearRing r : rings) {
-			int d = graph.degreeIn(r);
-			if (d % 2 == 0) {
-				Set<LinearRing> possiblyInner = graph.getEdgesOut(r);
-				Set<LinearRing> inner = new HashSet<>();
-				for (LinearRing q : possiblyInner) {
-					if (graph.degreeIn(q) == d + 1) {
-						inner.add(q);
-					}
-				}
-				LinearRing[] holes = inner.toArray(new LinearRing[0]);
-				polygons.add(new Polygon(r, holes, factory));
-			}
-		}
-
-		Polygon[] ps = polygons.toArray(new Polygon[0]);
-		return new MultiPolygon(ps, factory);
+		return RingNesting.assemble(rings, graph, factory);
 	}
 
 	/**
@@ -182,9 +133,10 @@ public class PolygonHelper
 
 	/**
 	 * Returns only the polygonal parts of a geometry. If the argument is a
-	 * GeometryCollection, the union of its polygonal parts will be computed and
-	 * returned. If the argument is not polygonal and does not contain any
-	 * polygonal parts, null will be returned.
+	 * GeometryCollection, the union of its polygonal parts, including those of
+	 * nested collections, will be computed and returned. If the argument is not
+	 * polygonal and does not contain any polygonal parts, null will be
+	 * returned.
 	 */
 	public static Geometry polygonal(Geometry geometry)
 	{
@@ -193,13 +145,11 @@ public class PolygonHelper
 		}
 		if (geometry instanceof GeometryCollection) {
 			List<Geometry> parts = new ArrayList<>();
-			GeometryCollectionIterator iterator = new GeometryCollectionIterator(
-					(GeometryCollection) geometry);
-			for (Geometry part : iterator) {
+			GeometryTraversal.forEachLeaf(geometry, part -> {
 				if (part instanceof Polygonal) {
 					parts.add(part);
 				}
-			}
+			});
 
 			CascadedPolygonUnion union = new CascadedPolygonUnion(parts);
 			Geometry result = union.union();
@@ -210,4 +160,51 @@ public class PolygonHelper
 		return null;
 	}
 
+	/**
+	 * Returns only the polygonal parts of a geometry, like
+	 * {@link #polygonal(Geometry)}, but computes the union of the polygonal
+	 * parts of collections using the specified partitioned parallel union.
+	 * 
+	 * @param geometry
+	 *            the geometry to extract polygonal parts from.
+	 * @param union
+	 *            the union implementation to use.
+	 * @param disjoint
+	 *            whether the polygonal parts are known to be pairwise
+	 *            disjoint. If so, the union is skipped and a MultiPolygon of
+	 *            the parts is returned.
+	 * @return the polygonal parts or null if there are none.
+	 */
+	public static Geometry polygonal(Geometry geometry, PartitionedUnion union,
+			boolean disjoint)
+	{
+		if (geometry instanceof Polygonal) {
+			return geometry;
+		}
+		if (!(geometry instanceof GeometryCollection)) {
+			return null;
+		}
+
+		List<Geometry> parts = new ArrayList<>();
+		GeometryTraversal.forEachLeaf(geometry, part -> {
+			if (part instanceof Polygon && !part.isEmpty()) {
+				parts.add(part);
+			}
+		});
+		if (parts.isEmpty()) {
+			return null;
+		}
+
+		Geometry result;
+		if (disjoint) {
+			result = geometry.getFactory().buildGeometry(parts);
+		} else {
+			result = union.union(parts);
+		}
+		if (result instanceof Polygonal) {
+			return result;
+		}
+		return null;
+	}
+
 }
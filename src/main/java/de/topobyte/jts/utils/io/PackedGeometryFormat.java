@@ -0,0 +1,67 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.io;
+
+/**
+ * Constants of the packed geometry format shared by
+ * {@link PackedGeometryWriter} and {@link PackedGeometryReader}.
+ * 
+ * Each record starts with a header byte holding the geometry type in its
+ * lower bits and the bbox flag, followed by a byte with the number of decimal
+ * digits coordinates have been rounded to. If the bbox flag is set, which it
+ * never is for empty geometries, the length of the body in bytes and the
+ * bounding box follow. The body encodes the geometry recursively: points,
+ * line strings and rings as the number of coordinates followed by the
+ * coordinates, polygons as the number of rings followed by the rings and
+ * collections as the number of components followed by the type byte and body
+ * of each component. Rings are stored without their closing coordinate.
+ * 
+ * Coordinates are stored as fixed-precision integers, each one as the
+ * difference to the previous coordinate of the record, zigzag-encoded as a
+ * variable-length integer. The bounding box is stored as its zigzag-encoded
+ * minimum followed by its width and height.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+class PackedGeometryFormat
+{
+
+	static final int POINT = 1;
+	static final int LINE_STRING = 2;
+	static final int LINEAR_RING = 3;
+	static final int POLYGON = 4;
+	static final int MULTI_POINT = 5;
+	static final int MULTI_LINE_STRING = 6;
+	static final int MULTI_POLYGON = 7;
+	static final int GEOMETRY_COLLECTION = 8;
+
+	static final int TYPE_MASK = 0x0f;
+	static final int FLAG_BBOX = 0x10;
+
+	static final int MAX_DIGITS = 15;
+
+	static double scale(int digits)
+	{
+		if (digits < 0 || digits > MAX_DIGITS) {
+			throw new IllegalArgumentException(
+					"digits must be between 0 and " + MAX_DIGITS);
+		}
+		return Math.pow(10, digits);
+	}
+
+}
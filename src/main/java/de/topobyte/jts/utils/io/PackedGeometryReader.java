@@ -0,0 +1,306 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.io;
+
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.FLAG_BBOX;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.GEOMETRY_COLLECTION;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.LINEAR_RING;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.LINE_STRING;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.MULTI_LINE_STRING;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.MULTI_POINT;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.MULTI_POLYGON;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.POINT;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.POLYGON;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.TYPE_MASK;
+
+import java.nio.ByteBuffer;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import de.topobyte.jts.utils.PackedCoordinateSequenceBuilder;
+
+/**
+ * Decodes consecutive records written by {@link PackedGeometryWriter} from a
+ * buffer, starting at its current position and advancing it record by record.
+ * Coordinates are decoded directly into the arrays of
+ * {@link PackedCoordinateSequence}s without creating intermediate coordinate
+ * objects.
+ * 
+ * Records that have been written with a bounding box can be inspected using
+ * {@link #peekEnvelope()} and skipped using {@link #skip()} without decoding
+ * their geometry.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class PackedGeometryReader
+{
+
+	private final ByteBuffer buffer;
+	private final GeometryFactory factory;
+
+	private int digits = -1;
+	private double scale;
+
+	private long lastX;
+	private long lastY;
+
+	/**
+	 * Create a reader that uses a default geometry factory.
+	 */
+	public PackedGeometryReader(ByteBuffer buffer)
+	{
+		this(buffer, new GeometryFactory());
+	}
+
+	/**
+	 * @param buffer
+	 *            the buffer to read from.
+	 * @param factory
+	 *            the factory to create geometries with.
+	 */
+	public PackedGeometryReader(ByteBuffer buffer, GeometryFactory factory)
+	{
+		this.buffer = buffer;
+		this.factory = factory;
+	}
+
+	/**
+	 * @return whether the buffer has more records.
+	 */
+	public boolean hasNext()
+	{
+		return buffer.hasRemaining();
+	}
+
+	/**
+	 * Get the bounding box of the next record without advancing the reader.
+	 * 
+	 * @return the bounding box or null if the next record has been written
+	 *         without one.
+	 */
+	public Envelope peekEnvelope()
+	{
+		int start = buffer.position();
+		try {
+			int header = buffer.get() & 0xff;
+			if ((header & FLAG_BBOX) == 0) {
+				return null;
+			}
+			readDigits();
+			readUnsigned();
+			long minX = readSigned();
+			long minY = readSigned();
+			long maxX = minX + readUnsigned();
+			long maxY = minY + readUnsigned();
+			return new Envelope(minX / scale, maxX / scale, minY / scale,
+					maxY / scale);
+		} finally {
+			buffer.position(start);
+		}
+	}
+
+	/**
+	 * Decode the next record.
+	 */
+	public Geometry next()
+	{
+		int header = buffer.get() & 0xff;
+		readDigits();
+		if ((header & FLAG_BBOX) != 0) {
+			for (int i = 0; i < 5; i++) {
+				readUnsigned();
+			}
+		}
+		lastX = 0;
+		lastY = 0;
+		return readBody(header & TYPE_MASK);
+	}
+
+	/**
+	 * Advance the reader behind the next record. Records with a bounding box
+	 * are skipped in constant time, others are scanned without creating
+	 * geometries.
+	 */
+	public void skip()
+	{
+		int header = buffer.get() & 0xff;
+		readDigits();
+		if ((header & FLAG_BBOX) != 0) {
+			int length = (int) readUnsigned();
+			for (int i = 0; i < 4; i++) {
+				readUnsigned();
+			}
+			buffer.position(buffer.position() + length);
+		} else {
+			skipBody(header & TYPE_MASK);
+		}
+	}
+
+	private void readDigits()
+	{
+		int d = buffer.get();
+		if (d != digits) {
+			scale = PackedGeometryFormat.scale(d);
+			digits = d;
+		}
+	}
+
+	private Geometry readBody(int type)
+	{
+		switch (type) {
+		case POINT:
+			return factory.createPoint(readSequence(false));
+		case LINE_STRING:
+			return factory.createLineString(readSequence(false));
+		case LINEAR_RING:
+			return factory.createLinearRing(readSequence(true));
+		case POLYGON: {
+			int n = (int) readUnsigned();
+			if (n == 0) {
+				return factory.createPolygon();
+			}
+			LinearRing shell = factory.createLinearRing(readSequence(true));
+			LinearRing[] holes = new LinearRing[n - 1];
+			for (int i = 0; i < holes.length; i++) {
+				holes[i] = factory.createLinearRing(readSequence(true));
+			}
+			return factory.createPolygon(shell, holes);
+		}
+		case MULTI_POINT: {
+			Point[] points = new Point[(int) readUnsigned()];
+			for (int i = 0; i < points.length; i++) {
+				points[i] = (Point) readComponent();
+			}
+			return factory.createMultiPoint(points);
+		}
+		case MULTI_LINE_STRING: {
+			LineString[] strings = new LineString[(int) readUnsigned()];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = (LineString) readComponent();
+			}
+			return factory.createMultiLineString(strings);
+		}
+		case MULTI_POLYGON: {
+			Polygon[] polygons = new Polygon[(int) readUnsigned()];
+			for (int i = 0; i < polygons.length; i++) {
+				polygons[i] = (Polygon) readComponent();
+			}
+			return factory.createMultiPolygon(polygons);
+		}
+		case GEOMETRY_COLLECTION: {
+			Geometry[] geometries = new Geometry[(int) readUnsigned()];
+			for (int i = 0; i < geometries.length; i++) {
+				geometries[i] = readComponent();
+			}
+			return factory.createGeometryCollection(geometries);
+		}
+		default:
+			throw new IllegalStateException("invalid geometry type: " + type);
+		}
+	}
+
+	private Geometry readComponent()
+	{
+		return readBody(buffer.get() & TYPE_MASK);
+	}
+
+	private PackedCoordinateSequence.Double readSequence(boolean ring)
+	{
+		int n = (int) readUnsigned();
+		int size = ring && n > 0 ? n + 1 : n;
+		double[] coords = new double[size * 2];
+		for (int i = 0; i < n; i++) {
+			lastX += readSigned();
+			lastY += readSigned();
+			coords[i * 2] = lastX / scale;
+			coords[i * 2 + 1] = lastY / scale;
+		}
+		if (size > n) {
+			coords[n * 2] = coords[0];
+			coords[n * 2 + 1] = coords[1];
+		}
+		return PackedCoordinateSequenceBuilder.wrap(coords);
+	}
+
+	private void skipBody(int type)
+	{
+		switch (type) {
+		case POINT:
+		case LINE_STRING:
+		case LINEAR_RING:
+			skipSequence();
+			break;
+		case POLYGON: {
+			int n = (int) readUnsigned();
+			for (int i = 0; i < n; i++) {
+				skipSequence();
+			}
+			break;
+		}
+		case MULTI_POINT:
+		case MULTI_LINE_STRING:
+		case MULTI_POLYGON:
+		case GEOMETRY_COLLECTION: {
+			int n = (int) readUnsigned();
+			for (int i = 0; i < n; i++) {
+				skipBody(buffer.get() & TYPE_MASK);
+			}
+			break;
+		}
+		default:
+			throw new IllegalStateException("invalid geometry type: " + type);
+		}
+	}
+
+	private void skipSequence()
+	{
+		int n = (int) readUnsigned();
+		for (int i = 0; i < 2 * n; i++) {
+			while ((buffer.get() & 0x80) != 0) {
+				// continuation byte
+			}
+		}
+	}
+
+	private long readSigned()
+	{
+		long value = readUnsigned();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private long readUnsigned()
+	{
+		long value = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = buffer.get();
+			value |= (long) (b & 0x7f) << shift;
+			shift += 7;
+		} while (b < 0);
+		return value;
+	}
+
+}
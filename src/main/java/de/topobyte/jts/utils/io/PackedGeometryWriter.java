@@ -0,0 +1,293 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.io;
+
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.FLAG_BBOX;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.GEOMETRY_COLLECTION;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.LINEAR_RING;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.LINE_STRING;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.MULTI_LINE_STRING;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.MULTI_POINT;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.MULTI_POLYGON;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.POINT;
+import static de.topobyte.jts.utils.io.PackedGeometryFormat.POLYGON;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Encodes geometries in a compact binary format (see
+ * {@link PackedGeometryReader}) with delta-encoded fixed-precision
+ * coordinates. Coordinates are rounded to the configured number of decimal
+ * digits, hence decoding is exact only for coordinates that already have
+ * that precision. Only x and y are stored. Coordinates that are NaN or whose
+ * magnitude reaches 2^62 after scaling cannot be encoded, which limits the
+ * range of coordinates for large numbers of digits.
+ * 
+ * A writer reuses its internal buffer between calls and is therefore not
+ * safe for use by multiple threads.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class PackedGeometryWriter
+{
+
+	private final int digits;
+	private final double scale;
+	private final boolean bbox;
+
+	private byte[] buf = new byte[256];
+	private int pos = 0;
+
+	private long lastX;
+	private long lastY;
+
+	/**
+	 * @param digits
+	 *            the number of decimal digits to keep (0 to 15).
+	 * @param bbox
+	 *            whether to prefix each record with its length and bounding
+	 *            box, which allows readers to skip records without decoding
+	 *            them. Empty geometries are always written without.
+	 */
+	public PackedGeometryWriter(int digits, boolean bbox)
+	{
+		this.scale = PackedGeometryFormat.scale(digits);
+		this.digits = digits;
+		this.bbox = bbox;
+	}
+
+	public int getDigits()
+	{
+		return digits;
+	}
+
+	public boolean isBbox()
+	{
+		return bbox;
+	}
+
+	/**
+	 * Encode a geometry as a single record.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if a coordinate cannot be encoded.
+	 */
+	public byte[] write(Geometry geometry)
+	{
+		encode(geometry);
+		return Arrays.copyOf(buf, pos);
+	}
+
+	/**
+	 * Encode a geometry as a single record and write it to the stream.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if a coordinate cannot be encoded.
+	 */
+	public void write(Geometry geometry, OutputStream out) throws IOException
+	{
+		encode(geometry);
+		out.write(buf, 0, pos);
+	}
+
+	/**
+	 * Encode a geometry as a single record and append it to the buffer.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if a coordinate cannot be encoded.
+	 * @throws java.nio.BufferOverflowException
+	 *             if the buffer does not have enough space left.
+	 */
+	public void write(Geometry geometry, ByteBuffer buffer)
+	{
+		encode(geometry);
+		buffer.put(buf, 0, pos);
+	}
+
+	private void encode(Geometry geometry)
+	{
+		pos = 0;
+		lastX = 0;
+		lastY = 0;
+		int type = type(geometry);
+		// empty geometries have no bounding box
+		if (!bbox || geometry.isEmpty()) {
+			writeByte(type);
+			writeByte(digits);
+			writeBody(geometry, type);
+			return;
+		}
+
+		// encode the body first, then move it behind the header
+		writeBody(geometry, type);
+		int length = pos;
+		byte[] body = Arrays.copyOf(buf, length);
+
+		pos = 0;
+		writeByte(type | FLAG_BBOX);
+		writeByte(digits);
+		writeUnsigned(length);
+		Envelope envelope = geometry.getEnvelopeInternal();
+		long minX = fixed(envelope.getMinX());
+		long minY = fixed(envelope.getMinY());
+		writeSigned(minX);
+		writeSigned(minY);
+		writeUnsigned(fixed(envelope.getMaxX()) - minX);
+		writeUnsigned(fixed(envelope.getMaxY()) - minY);
+		ensureCapacity(length);
+		System.arraycopy(body, 0, buf, pos, length);
+		pos += length;
+	}
+
+	private static int type(Geometry geometry)
+	{
+		if (geometry instanceof Point) {
+			return POINT;
+		} else if (geometry instanceof LinearRing) {
+			return LINEAR_RING;
+		} else if (geometry instanceof LineString) {
+			return LINE_STRING;
+		} else if (geometry instanceof Polygon) {
+			return POLYGON;
+		} else if (geometry instanceof MultiPoint) {
+			return MULTI_POINT;
+		} else if (geometry instanceof MultiLineString) {
+			return MULTI_LINE_STRING;
+		} else if (geometry instanceof MultiPolygon) {
+			return MULTI_POLYGON;
+		} else if (geometry instanceof GeometryCollection) {
+			return GEOMETRY_COLLECTION;
+		}
+		throw new IllegalArgumentException(
+				"unsupported geometry type: " + geometry.getGeometryType());
+	}
+
+	private void writeBody(Geometry geometry, int type)
+	{
+		switch (type) {
+		case POINT:
+			writeSequence(((Point) geometry).getCoordinateSequence(), false);
+			break;
+		case LINE_STRING:
+			writeSequence(((LineString) geometry).getCoordinateSequence(),
+					false);
+			break;
+		case LINEAR_RING:
+			writeSequence(((LineString) geometry).getCoordinateSequence(),
+					true);
+			break;
+		case POLYGON:
+			Polygon polygon = (Polygon) geometry;
+			if (polygon.isEmpty()) {
+				writeUnsigned(0);
+				break;
+			}
+			writeUnsigned(1 + polygon.getNumInteriorRing());
+			writeSequence(polygon.getExteriorRing().getCoordinateSequence(),
+					true);
+			for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+				writeSequence(
+						polygon.getInteriorRingN(i).getCoordinateSequence(),
+						true);
+			}
+			break;
+		default:
+			int n = geometry.getNumGeometries();
+			writeUnsigned(n);
+			for (int i = 0; i < n; i++) {
+				Geometry component = geometry.getGeometryN(i);
+				int componentType = type(component);
+				writeByte(componentType);
+				writeBody(component, componentType);
+			}
+		}
+	}
+
+	private void writeSequence(CoordinateSequence sequence, boolean ring)
+	{
+		int n = sequence.size();
+		if (ring && n > 0) {
+			// the closing coordinate is restored when reading
+			n--;
+		}
+		writeUnsigned(n);
+		for (int i = 0; i < n; i++) {
+			long x = fixed(sequence.getOrdinate(i, CoordinateSequence.X));
+			long y = fixed(sequence.getOrdinate(i, CoordinateSequence.Y));
+			writeSigned(x - lastX);
+			writeSigned(y - lastY);
+			lastX = x;
+			lastY = y;
+		}
+	}
+
+	private long fixed(double value)
+	{
+		double scaled = value * scale;
+		// keeps differences between coordinates within the range of long
+		if (Double.isNaN(scaled) || Math.abs(scaled) >= 0x1p62) {
+			throw new IllegalArgumentException("coordinate " + value
+					+ " cannot be encoded with " + digits + " digits");
+		}
+		return Math.round(scaled);
+	}
+
+	private void writeSigned(long value)
+	{
+		writeUnsigned((value << 1) ^ (value >> 63));
+	}
+
+	private void writeUnsigned(long value)
+	{
+		ensureCapacity(10);
+		while ((value & ~0x7fL) != 0) {
+			buf[pos++] = (byte) ((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+		buf[pos++] = (byte) value;
+	}
+
+	private void writeByte(int value)
+	{
+		ensureCapacity(1);
+		buf[pos++] = (byte) value;
+	}
+
+	private void ensureCapacity(int n)
+	{
+		if (pos + n > buf.length) {
+			buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + n));
+		}
+	}
+
+}
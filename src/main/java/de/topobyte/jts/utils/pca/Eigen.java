@@ -0,0 +1,88 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.pca;
+
+import org.locationtech.jts.geom.Coordinate;
+
+/**
+ * Computes eigenvalues and eigenvectors of a 2x2 covariance matrix.
+ */
+class Eigen
+{
+
+	double l1, l2;
+	Coordinate e1, e2;
+
+	/**
+	 * Covariance matrix
+	 * 
+	 * (k11 k12)
+	 * 
+	 * (k21 k22)
+	 */
+	Eigen(double k11, double k12, double k21, double k22)
+	{
+		// Characteristic polynom for eigenvalues l1, l2
+		// l^2 - (k11 + k22) * l + k11k22 - k12k21 = 0
+		// l^2 - 2a * l + b = 0
+		double a = (k11 + k22) / 2;
+		double b = k11 * k22 - k12 * k21;
+		double root = Math.sqrt(a * a - b);
+		l1 = a + root;
+		l2 = a - root;
+
+		// / Sort eigenvalues on their absolute value
+		if (Math.abs(l2) > Math.abs(l1)) {
+			double tmp = l1;
+			l1 = l2;
+			l2 = tmp;
+		}
+
+		// Eigenvectors (x1,y1) and (x2, y2)
+		e1 = eigenvector(k11, k12, k21, k22, l1, new Coordinate(1, 0));
+		e2 = eigenvector(k11, k12, k21, k22, l2, new Coordinate(0, 1));
+	}
+
+	/**
+	 * Compute the normalized eigenvector for the eigenvalue l. Both rows of
+	 * the matrix (K - l*I) are orthogonal to the eigenvector, the one with the
+	 * larger norm is used, so that covariance matrices of shapes that are
+	 * aligned to the axes (k12 = 0) are handled as well. If both rows vanish,
+	 * every vector is an eigenvector and the fallback is returned.
+	 */
+	private static Coordinate eigenvector(double k11, double k12, double k21,
+			double k22, double l, Coordinate fallback)
+	{
+		double x1 = k12, y1 = l - k11;
+		double x2 = l - k22, y2 = k21;
+		double n1 = x1 * x1 + y1 * y1;
+		double n2 = x2 * x2 + y2 * y2;
+		double x = n1 >= n2 ? x1 : x2;
+		double y = n1 >= n2 ? y1 : y2;
+		double f = Math.sqrt(Math.max(n1, n2));
+		if (f == 0 || Double.isNaN(f)) {
+			return fallback;
+		}
+		// same orientation as (1, (l - k11) / k12)
+		if (x < 0 || x == 0 && y < 0) {
+			f = -f;
+		}
+		return new Coordinate(x / f, y / f);
+	}
+
+}
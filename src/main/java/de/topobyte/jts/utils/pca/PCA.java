@@ -68,32 +68,11 @@ public class PCA
 		k21 /= n;
 		k22 /= n;
 
-		// Characteristic polynom for eigenvalues l1, l2
-		// l^2 - (k11 + k22) * l + k11k22 - k12k21 = 0
-		// l^2 - 2a * l + b = 0
-		double a = (k11 + k22) / 2;
-		double b = k11 * k22 - k12 * k21;
-		double root = Math.sqrt(a * a - b);
-		l1 = a + root;
-		l2 = a - root;
-
-		// / Sort eigenvalues on their absolute value
-		if (Math.abs(l2) > Math.abs(l1)) {
-			double tmp = l1;
-			l1 = l2;
-			l2 = tmp;
-		}
-
-		// Eigenvectors (x1,y1) and (x2, y2)
-		e1 = new Coordinate(1, (l1 - k11) / k12);
-		double f1 = Math.sqrt(e1.x * e1.x + e1.y * e1.y);
-		e1.x /= f1;
-		e1.y /= f1;
-
-		e2 = new Coordinate(1, (l2 - k11) / k12);
-		double f2 = Math.sqrt(e2.x * e2.x + e2.y * e2.y);
-		e2.x /= f2;
-		e2.y /= f2;
+		Eigen eigen = new Eigen(k11, k12, k21, k22);
+		l1 = eigen.l1;
+		l2 = eigen.l2;
+		e1 = eigen.e1;
+		e2 = eigen.e2;
 	}
 
 	public int getNumberOfPoints()
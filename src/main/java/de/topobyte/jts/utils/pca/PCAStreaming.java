@@ -0,0 +1,245 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.pca;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A variant of {@link PCA} that does not materialize the coordinates of the
+ * geometry. Ordinates are read directly from the coordinate sequences of the
+ * geometry and accumulated into primitive values. The extreme projections of
+ * the coordinates onto both eigenvectors are computed once during
+ * construction, so that creating rectangles from this instance does not
+ * require another pass over the coordinates.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class PCAStreaming
+{
+
+	private Coordinate mu;
+	private Coordinate e1, e2;
+	private double l1, l2;
+
+	private Geometry geometry;
+	private int n;
+
+	private double min1, max1;
+	private double min2, max2;
+
+	public PCAStreaming(Geometry geometry)
+	{
+		this.geometry = geometry;
+
+		// mu
+		mu = geometry.getCentroid().getCoordinate();
+
+		// Covariance matrix
+		CovarianceFilter covariance = new CovarianceFilter(mu.x, mu.y);
+		geometry.apply(covariance);
+		n = covariance.n;
+
+		double k11 = covariance.k11 / n;
+		double k12 = covariance.k12 / n;
+		double k22 = covariance.k22 / n;
+
+		Eigen eigen = new Eigen(k11, k12, k12, k22);
+		l1 = eigen.l1;
+		l2 = eigen.l2;
+		e1 = eigen.e1;
+		e2 = eigen.e2;
+
+		// Extreme projections on eigenvectors
+		ProjectionFilter projection = new ProjectionFilter(mu, e1, e2);
+		geometry.apply(projection);
+		min1 = projection.min1;
+		max1 = projection.max1;
+		min2 = projection.min2;
+		max2 = projection.max2;
+	}
+
+	public int getNumberOfPoints()
+	{
+		return n;
+	}
+
+	public Geometry getGeometry()
+	{
+		return geometry;
+	}
+
+	public Coordinate getMu()
+	{
+		return mu;
+	}
+
+	public Coordinate getEigenVector1()
+	{
+		return e1;
+	}
+
+	public Coordinate getEigenVector2()
+	{
+		return e2;
+	}
+
+	public double getEigenValue1()
+	{
+		return l1;
+	}
+
+	public double getEigenValue2()
+	{
+		return l2;
+	}
+
+	/**
+	 * @return the minimum projection of the coordinates on the first
+	 *         eigenvector.
+	 */
+	public double getMinProjection1()
+	{
+		return min1;
+	}
+
+	/**
+	 * @return the maximum projection of the coordinates on the first
+	 *         eigenvector.
+	 */
+	public double getMaxProjection1()
+	{
+		return max1;
+	}
+
+	/**
+	 * @return the minimum projection of the coordinates on the second
+	 *         eigenvector.
+	 */
+	public double getMinProjection2()
+	{
+		return min2;
+	}
+
+	/**
+	 * @return the maximum projection of the coordinates on the second
+	 *         eigenvector.
+	 */
+	public double getMaxProjection2()
+	{
+		return max2;
+	}
+
+	private static class CovarianceFilter implements CoordinateSequenceFilter
+	{
+
+		private double mx, my;
+
+		int n = 0;
+		double k11 = 0, k12 = 0, k22 = 0;
+
+		CovarianceFilter(double mx, double my)
+		{
+			this.mx = mx;
+			this.my = my;
+		}
+
+		@Override
+		public void filter(CoordinateSequence seq, int i)
+		{
+			double dx = seq.getX(i) - mx;
+			double dy = seq.getY(i) - my;
+			k11 += dx * dx;
+			k22 += dy * dy;
+			k12 += dx * dy;
+			n++;
+		}
+
+		@Override
+		public boolean isDone()
+		{
+			return false;
+		}
+
+		@Override
+		public boolean isGeometryChanged()
+		{
+			return false;
+		}
+
+	}
+
+	private static class ProjectionFilter implements CoordinateSequenceFilter
+	{
+
+		private double mx, my;
+		private double e1x, e1y, e2x, e2y;
+
+		double min1 = Double.POSITIVE_INFINITY;
+		double max1 = Double.NEGATIVE_INFINITY;
+		double min2 = Double.POSITIVE_INFINITY;
+		double max2 = Double.NEGATIVE_INFINITY;
+
+		ProjectionFilter(Coordinate mu, Coordinate e1, Coordinate e2)
+		{
+			mx = mu.x;
+			my = mu.y;
+			e1x = e1.x;
+			e1y = e1.y;
+			e2x = e2.x;
+			e2y = e2.y;
+		}
+
+		@Override
+		public void filter(CoordinateSequence seq, int i)
+		{
+			double dx = seq.getX(i) - mx;
+			double dy = seq.getY(i) - my;
+			double p1 = e1x * dx + e1y * dy;
+			double p2 = e2x * dx + e2y * dy;
+			if (p1 < min1) {
+				min1 = p1;
+			}
+			if (p1 > max1) {
+				max1 = p1;
+			}
+			if (p2 < min2) {
+				min2 = p2;
+			}
+			if (p2 > max2) {
+				max2 = p2;
+			}
+		}
+
+		@Override
+		public boolean isDone()
+		{
+			return false;
+		}
+
+		@Override
+		public boolean isGeometryChanged()
+		{
+			return false;
+		}
+
+	}
+
+}
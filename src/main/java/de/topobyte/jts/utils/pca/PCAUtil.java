@@ -34,24 +34,42 @@ public class PCAUtil
 		return ring.getFactory().createPolygon(ring, null);
 	}
 
-	public static LinearRing createRectangleAsRing(PCA pca)
+	public static Polygon createRectangleAsPolygon(PCAStreaming pca)
 	{
-		Coordinate mu = pca.getMu();
+		LinearRing ring = createRectangleAsRing(pca);
+		return ring.getFactory().createPolygon(ring, null);
+	}
 
+	public static LinearRing createRectangleAsRing(PCA pca)
+	{
 		int n = pca.getNumberOfPoints();
-		Coordinate e1 = pca.getEigenVector1();
-		Coordinate e2 = pca.getEigenVector2();
-		double[] p1 = pca.getSortedProjectionsOn(e1);
-		double[] p2 = pca.getSortedProjectionsOn(e2);
+		double[] p1 = pca.getSortedProjectionsOn(pca.getEigenVector1());
+		double[] p2 = pca.getSortedProjectionsOn(pca.getEigenVector2());
+
+		return createRectangleAsRing(pca.getGeometry().getFactory(),
+				pca.getMu(), pca.getEigenVector1(), pca.getEigenVector2(),
+				p1[0], p1[n - 1], p2[0], p2[n - 1]);
+	}
+
+	public static LinearRing createRectangleAsRing(PCAStreaming pca)
+	{
+		return createRectangleAsRing(pca.getGeometry().getFactory(),
+				pca.getMu(), pca.getEigenVector1(), pca.getEigenVector2(),
+				pca.getMinProjection1(), pca.getMaxProjection1(),
+				pca.getMinProjection2(), pca.getMaxProjection2());
+	}
 
+	private static LinearRing createRectangleAsRing(GeometryFactory factory,
+			Coordinate mu, Coordinate e1, Coordinate e2, double min1,
+			double max1, double min2, double max2)
+	{
 		// a and b are the extreme points on the major axis
-		Coordinate a = new Coordinate(mu.x + p1[0] * e1.x, mu.y + p1[0] * e1.y);
-		Coordinate b = new Coordinate(mu.x + p1[n - 1] * e1.x,
-				mu.y + p1[n - 1] * e1.y);
+		Coordinate a = new Coordinate(mu.x + min1 * e1.x, mu.y + min1 * e1.y);
+		Coordinate b = new Coordinate(mu.x + max1 * e1.x, mu.y + max1 * e1.y);
 
-		Coordinate[] coords = createRingCoordinates(a, b, e2, p2[0], p2[n - 1]);
+		Coordinate[] coords = createRingCoordinates(a, b, e2, min2, max2);
 
-		return pca.getGeometry().getFactory().createLinearRing(coords);
+		return factory.createLinearRing(coords);
 	}
 
 	private static Coordinate[] createRingCoordinates(Coordinate a,
@@ -70,18 +88,33 @@ public class PCAUtil
 	public static List<Polygon> createSplitRectangles(PCA pca, double pos,
 			double safetyFactor)
 	{
-		Coordinate mu = pca.getMu();
-
 		int n = pca.getNumberOfPoints();
-		Coordinate e1 = pca.getEigenVector1();
-		Coordinate e2 = pca.getEigenVector2();
-		double[] p1 = pca.getSortedProjectionsOn(e1);
-		double[] p2 = pca.getSortedProjectionsOn(e2);
+		double[] p1 = pca.getSortedProjectionsOn(pca.getEigenVector1());
+		double[] p2 = pca.getSortedProjectionsOn(pca.getEigenVector2());
+
+		return createSplitRectangles(pca.getGeometry().getFactory(),
+				pca.getMu(), pca.getEigenVector1(), pca.getEigenVector2(),
+				p1[0], p1[n - 1], p2[0], p2[n - 1], pos, safetyFactor);
+	}
 
+	public static List<Polygon> createSplitRectangles(PCAStreaming pca,
+			double pos, double safetyFactor)
+	{
+		return createSplitRectangles(pca.getGeometry().getFactory(),
+				pca.getMu(), pca.getEigenVector1(), pca.getEigenVector2(),
+				pca.getMinProjection1(), pca.getMaxProjection1(),
+				pca.getMinProjection2(), pca.getMaxProjection2(), pos,
+				safetyFactor);
+	}
+
+	private static List<Polygon> createSplitRectangles(GeometryFactory factory,
+			Coordinate mu, Coordinate e1, Coordinate e2, double min1,
+			double max1, double min2, double max2, double pos,
+			double safetyFactor)
+	{
 		// a and b are the extreme points on the major axis
-		Coordinate a = new Coordinate(mu.x + p1[0] * e1.x, mu.y + p1[0] * e1.y);
-		Coordinate b = new Coordinate(mu.x + p1[n - 1] * e1.x,
-				mu.y + p1[n - 1] * e1.y);
+		Coordinate a = new Coordinate(mu.x + min1 * e1.x, mu.y + min1 * e1.y);
+		Coordinate b = new Coordinate(mu.x + max1 * e1.x, mu.y + max1 * e1.y);
 
 		if (pos < 0 || pos > 1) {
 			throw new IllegalArgumentException(
@@ -96,25 +129,24 @@ public class PCAUtil
 		// scale linearly in both parts. 0.5 is at the median of the point-set,
 		// so we have to distinguish both cases and interpolate within the
 		// respective range
-		double ppos = pos < 0.5 ? (pos - 0.5) * 2 * Math.abs(p1[0])
-				: (pos - 0.5) * 2 * Math.abs(p1[n - 1]);
+		double ppos = pos < 0.5 ? (pos - 0.5) * 2 * Math.abs(min1)
+				: (pos - 0.5) * 2 * Math.abs(max1);
 		Coordinate c = new Coordinate(mu.x + ppos * e1.x, mu.y + ppos * e1.y);
 
 		// make rectangles a bit bigger to make geometric intersection with the
 		// original geometry safe
-		double span1 = Math.abs(p1[0]) + Math.abs(p1[n - 1]);
-		double span2 = Math.abs(p2[0]) + Math.abs(p2[n - 1]);
+		double span1 = Math.abs(min1) + Math.abs(max1);
+		double span2 = Math.abs(min2) + Math.abs(max2);
 		double buffer1 = (safetyFactor - 1) * span1;
 		double buffer2 = (safetyFactor - 1) * span2;
 		a = new Coordinate(a.x - buffer1 * e1.x, a.y - buffer1 * e1.y);
 		b = new Coordinate(b.x + buffer1 * e1.x, b.y + buffer1 * e1.y);
 
-		Coordinate[] coords1 = createRingCoordinates(a, c, e2, p2[0] - buffer2,
-				p2[n - 1] + buffer2);
-		Coordinate[] coords2 = createRingCoordinates(c, b, e2, p2[0] - buffer2,
-				p2[n - 1] + buffer2);
+		Coordinate[] coords1 = createRingCoordinates(a, c, e2, min2 - buffer2,
+				max2 + buffer2);
+		Coordinate[] coords2 = createRingCoordinates(c, b, e2, min2 - buffer2,
+				max2 + buffer2);
 
-		GeometryFactory factory = pca.getGeometry().getFactory();
 		LinearRing ring1 = factory.createLinearRing(coords1);
 		LinearRing ring2 = factory.createLinearRing(coords2);
 
@@ -0,0 +1,259 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.algorithm.Area;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.quadtree.Quadtree;
+
+import de.topobyte.adt.graph.Graph;
+import de.topobyte.jts.utils.PackedCoordinateSequenceBuilder;
+import de.topobyte.jts.utils.PolygonHelper;
+
+/**
+ * An incremental alternative to
+ * {@link PolygonHelper#multipolygonFromRings(java.util.Set, boolean)}. Rings
+ * are added one at a time and the containment graph is updated as they
+ * arrive, using a quadtree over the envelopes of the rings added so far. The
+ * multipolygon is assembled on {@link #build()}, which also resets the
+ * builder so that it can be reused for the next multipolygon.
+ * 
+ * Rings that are invalid (if validation is enabled), equal to a ring added
+ * before or, when specified as coordinates, do not form a valid ring, are
+ * rejected and counted.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class MultipolygonBuilder
+{
+
+	private GeometryFactory factory;
+	private boolean checkValid;
+
+	private List<Entry> entries = new ArrayList<>();
+	private Map<LinearRing, Entry> lookup = new HashMap<>();
+	private Quadtree index = new Quadtree();
+	private Graph<LinearRing> graph = new Graph<>();
+
+	private int numRejected = 0;
+
+	private static class Entry
+	{
+
+		final LinearRing ring;
+		final Polygon polygon;
+		// prepared once the ring is tested as a container
+		PreparedGeometry prepared = null;
+
+		Entry(LinearRing ring, Polygon polygon)
+		{
+			this.ring = ring;
+			this.polygon = polygon;
+		}
+
+		PreparedGeometry prepared()
+		{
+			if (prepared == null) {
+				prepared = PreparedGeometryFactory.prepare(polygon);
+			}
+			return prepared;
+		}
+
+	}
+
+	public MultipolygonBuilder()
+	{
+		this(new GeometryFactory(), false);
+	}
+
+	/**
+	 * @param factory
+	 *            the factory to use for creating rings and polygons.
+	 * @param checkValid
+	 *            whether to reject rings that are not valid.
+	 */
+	public MultipolygonBuilder(GeometryFactory factory, boolean checkValid)
+	{
+		this.factory = factory;
+		this.checkValid = checkValid;
+	}
+
+	/**
+	 * @return the number of rings added since the last {@link #build()}.
+	 */
+	public int getNumRings()
+	{
+		return entries.size();
+	}
+
+	/**
+	 * @return the number of rings rejected since the last {@link #build()}.
+	 */
+	public int getNumRejected()
+	{
+		return numRejected;
+	}
+
+	/**
+	 * Add a ring.
+	 * 
+	 * @param ring
+	 *            the ring to add.
+	 * @return whether the ring has been accepted.
+	 */
+	public boolean add(LinearRing ring)
+	{
+		if (ring.isEmpty() || lookup.containsKey(ring)
+				|| (checkValid && !isValid(ring))) {
+			numRejected++;
+			return false;
+		}
+
+		Entry entry = new Entry(ring,
+				PolygonHelper.polygonFromLinearRing(ring, factory));
+		Envelope envelope = ring.getEnvelopeInternal();
+
+		// Rings are prepared lazily once they are tested as a container, so
+		// that an outer ring is prepared once for all of its holes. Prepared
+		// geometries are released on build() or reset(), hence memory stays
+		// proportional to the rings of the current multipolygon.
+		graph.addNode(ring);
+		@SuppressWarnings("unchecked")
+		List<Entry> candidates = index.query(envelope);
+		for (Entry other : candidates) {
+			Envelope otherEnvelope = other.ring.getEnvelopeInternal();
+			if (otherEnvelope.covers(envelope)
+					&& other.prepared().contains(entry.polygon)) {
+				graph.addEdge(other.ring, ring);
+			}
+			if (envelope.covers(otherEnvelope)
+					&& entry.prepared().contains(other.polygon)) {
+				graph.addEdge(ring, other.ring);
+			}
+		}
+
+		index.insert(envelope, entry);
+		entries.add(entry);
+		lookup.put(ring, entry);
+		return true;
+	}
+
+	/**
+	 * Validate a ring. Rings with non-finite coordinates or without area are
+	 * rejected in a single pass over the coordinates. Only rings with more
+	 * than three distinct points, which may intersect themselves, are checked
+	 * for self-intersections using JTS.
+	 */
+	private static boolean isValid(LinearRing ring)
+	{
+		CoordinateSequence seq = ring.getCoordinateSequence();
+		for (int i = 0; i < seq.size(); i++) {
+			if (!Double.isFinite(seq.getX(i))
+					|| !Double.isFinite(seq.getY(i))) {
+				return false;
+			}
+		}
+		if (Area.ofRing(seq) == 0) {
+			return false;
+		}
+		if (seq.size() <= 4) {
+			// a triangle with non-zero area is always simple
+			return true;
+		}
+		return ring.isValid();
+	}
+
+	/**
+	 * Add a ring from a coordinate sequence. The sequence needs to be closed.
+	 * 
+	 * @param coordinates
+	 *            the ring's coordinates.
+	 * @return whether the ring has been accepted.
+	 */
+	public boolean add(CoordinateSequence coordinates)
+	{
+		LinearRing ring;
+		try {
+			ring = factory.createLinearRing(coordinates);
+		} catch (IllegalArgumentException e) {
+			numRejected++;
+			return false;
+		}
+		return add(ring);
+	}
+
+	/**
+	 * Add a ring from arrays of coordinates. The i'th point of the ring is
+	 * represented by (xs[i], ys[i]). The ring is closed automatically if the
+	 * last point differs from the first one.
+	 * 
+	 * @param xs
+	 *            the x-coordinates.
+	 * @param ys
+	 *            the y-coordinates.
+	 * @return whether the ring has been accepted.
+	 */
+	public boolean add(double[] xs, double[] ys)
+	{
+		int n = xs.length;
+		boolean closed = n > 0 && xs[0] == xs[n - 1] && ys[0] == ys[n - 1];
+		return add(PackedCoordinateSequenceBuilder.create(xs, ys, !closed));
+	}
+
+	/**
+	 * Assemble the multipolygon from the rings added so far and reset this
+	 * builder.
+	 * 
+	 * @return the newly created multipolygon.
+	 */
+	public MultiPolygon build()
+	{
+		List<LinearRing> rings = new ArrayList<>(entries.size());
+		for (Entry entry : entries) {
+			rings.add(entry.ring);
+		}
+		MultiPolygon result = RingNesting.assemble(rings, graph, factory);
+		reset();
+		return result;
+	}
+
+	/**
+	 * Discard all rings added so far.
+	 */
+	public void reset()
+	{
+		entries = new ArrayList<>();
+		lookup = new HashMap<>();
+		index = new Quadtree();
+		graph = new Graph<>();
+		numRejected = 0;
+	}
+
+}
@@ -0,0 +1,203 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+
+/**
+ * A parallel divide-and-conquer union of polygons. The polygons are ordered
+ * along a Z-order curve of their envelope centers so that consecutive
+ * polygons are spatially close. The ordered list is then split recursively
+ * into partitions, partitions below a threshold size are unioned using
+ * {@link CascadedPolygonUnion} and adjacent partition results are merged
+ * pairwise. Partitions are processed as separate tasks on a
+ * {@link ForkJoinPool}.
+ * 
+ * As each partition only covers a limited region, intermediate results stay
+ * small, which bounds the memory needed compared to a single cascaded union
+ * over all polygons.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class PartitionedUnion
+{
+
+	public static final int DEFAULT_PARTITION_SIZE = 1024;
+
+	private ForkJoinPool pool;
+	private int partitionSize;
+
+	/**
+	 * Create an instance that executes on the common pool.
+	 */
+	public PartitionedUnion()
+	{
+		this(ForkJoinPool.commonPool(), DEFAULT_PARTITION_SIZE);
+	}
+
+	/**
+	 * @param pool
+	 *            the pool to execute tasks on.
+	 * @param partitionSize
+	 *            partitions with at most this number of polygons are unioned
+	 *            sequentially.
+	 */
+	public PartitionedUnion(ForkJoinPool pool, int partitionSize)
+	{
+		this.pool = pool;
+		this.partitionSize = Math.max(1, partitionSize);
+	}
+
+	public ForkJoinPool getPool()
+	{
+		return pool;
+	}
+
+	public int getPartitionSize()
+	{
+		return partitionSize;
+	}
+
+	/**
+	 * Compute the union of the specified polygonal geometries.
+	 * 
+	 * @param polygons
+	 *            a list of Polygons or MultiPolygons.
+	 * @return the union or null if the list does not contain any non-empty
+	 *         geometries.
+	 */
+	public Geometry union(List<? extends Geometry> polygons)
+	{
+		List<Geometry> ordered = zOrder(polygons);
+		if (ordered.isEmpty()) {
+			return null;
+		}
+		return pool.invoke(new UnionTask(ordered, 0, ordered.size()));
+	}
+
+	private class UnionTask extends RecursiveTask<Geometry>
+	{
+
+		private static final long serialVersionUID = 1L;
+
+		private List<Geometry> polygons;
+		private int from;
+		private int to;
+
+		UnionTask(List<Geometry> polygons, int from, int to)
+		{
+			this.polygons = polygons;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Geometry compute()
+		{
+			if (to - from <= partitionSize) {
+				return CascadedPolygonUnion
+						.union(new ArrayList<>(polygons.subList(from, to)));
+			}
+			int mid = (from + to) >>> 1;
+			UnionTask left = new UnionTask(polygons, from, mid);
+			UnionTask right = new UnionTask(polygons, mid, to);
+			right.fork();
+			Geometry a = left.compute();
+			Geometry b = right.join();
+			if (a == null) {
+				return b;
+			}
+			if (b == null) {
+				return a;
+			}
+			return a.union(b);
+		}
+
+	}
+
+	/**
+	 * Sort the non-empty geometries by the Z-order value of their envelope
+	 * centers. Empty geometries do not contribute to the union and are
+	 * omitted.
+	 */
+	private static List<Geometry> zOrder(List<? extends Geometry> geometries)
+	{
+		Envelope bounds = new Envelope();
+		for (Geometry geometry : geometries) {
+			bounds.expandToInclude(geometry.getEnvelopeInternal());
+		}
+		double width = bounds.getWidth();
+		double height = bounds.getHeight();
+
+		// Pack the 32 bit Z-order value and the index into a single long to
+		// sort without creating objects per geometry
+		long[] keys = new long[geometries.size()];
+		int n = 0;
+		for (int i = 0; i < geometries.size(); i++) {
+			Envelope envelope = geometries.get(i).getEnvelopeInternal();
+			if (envelope.isNull()) {
+				continue;
+			}
+			double cx = (envelope.getMinX() + envelope.getMaxX()) / 2;
+			double cy = (envelope.getMinY() + envelope.getMaxY()) / 2;
+			int x = scale(cx - bounds.getMinX(), width);
+			int y = scale(cy - bounds.getMinY(), height);
+			keys[n++] = (interleave(x, y) << 31) | i;
+		}
+		Arrays.sort(keys, 0, n);
+
+		List<Geometry> ordered = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			ordered.add(geometries.get((int) (keys[i] & 0x7fffffffL)));
+		}
+		return ordered;
+	}
+
+	private static int scale(double value, double extent)
+	{
+		if (extent <= 0) {
+			return 0;
+		}
+		int scaled = (int) (value / extent * 0xffff);
+		return Math.min(0xffff, Math.max(0, scaled));
+	}
+
+	private static long interleave(int x, int y)
+	{
+		return spread(x) | (spread(y) << 1);
+	}
+
+	private static long spread(int v)
+	{
+		long x = v & 0xffffL;
+		x = (x | (x << 8)) & 0x00ff00ffL;
+		x = (x | (x << 4)) & 0x0f0f0f0fL;
+		x = (x | (x << 2)) & 0x33333333L;
+		x = (x | (x << 1)) & 0x55555555L;
+		return x;
+	}
+
+}
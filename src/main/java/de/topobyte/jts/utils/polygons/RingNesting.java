@@ -0,0 +1,160 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import de.topobyte.adt.graph.Graph;
+import de.topobyte.jts.utils.PolygonHelper;
+
+/**
+ * Determines the nesting structure of a set of rings and assembles polygons
+ * with holes from it.
+ * 
+ * Candidate pairs are found using an STRtree over the ring envelopes, so that
+ * the exact containment test, which is performed using prepared geometries,
+ * is only evaluated for pairs of rings whose envelopes are nested.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class RingNesting
+{
+
+	/**
+	 * Build a graph with the specified rings as nodes and an edge (a, b) for
+	 * each pair of rings where the polygon formed by a contains the polygon
+	 * formed by b.
+	 * 
+	 * @param rings
+	 *            the rings to analyze.
+	 * @param factory
+	 *            the factory to use for creating intermediate polygons.
+	 * @return the containment graph.
+	 */
+	public static Graph<LinearRing> containmentGraph(
+			Collection<LinearRing> rings, GeometryFactory factory)
+	{
+		Graph<LinearRing> graph = new Graph<>();
+		graph.addNodes(rings);
+
+		// Build a polygon from each ring and index it by its envelope
+		Map<LinearRing, Polygon> ringToPolygon = new HashMap<>();
+		STRtree tree = new STRtree();
+		for (LinearRing r : rings) {
+			Polygon p = PolygonHelper.polygonFromLinearRing(r, factory);
+			ringToPolygon.put(r, p);
+			tree.insert(r.getEnvelopeInternal(), r);
+		}
+		tree.build();
+
+		// Evaluate containment for rings with nested envelopes only
+		List<LinearRing> list = new ArrayList<>(rings);
+		List<List<LinearRing>> contained = IntStream.range(0, list.size())
+				.parallel().mapToObj(
+						i -> containedRings(list.get(i), tree, ringToPolygon))
+				.collect(Collectors.toList());
+
+		for (int i = 0; i < list.size(); i++) {
+			LinearRing r = list.get(i);
+			for (LinearRing c : contained.get(i)) {
+				graph.addEdge(r, c);
+			}
+		}
+
+		return graph;
+	}
+
+	private static List<LinearRing> containedRings(LinearRing r,
+			STRtree tree, Map<LinearRing, Polygon> ringToPolygon)
+	{
+		Envelope envelope = r.getEnvelopeInternal();
+		@SuppressWarnings("unchecked")
+		List<LinearRing> candidates = tree.query(envelope);
+
+		List<LinearRing> results = new ArrayList<>();
+		PreparedGeometry prepared = null;
+		for (LinearRing c : candidates) {
+			if (c == r || !envelope.covers(c.getEnvelopeInternal())) {
+				continue;
+			}
+			if (prepared == null) {
+				prepared = PreparedGeometryFactory
+						.prepare(ringToPolygon.get(r));
+			}
+			if (prepared.contains(ringToPolygon.get(c))) {
+				results.add(c);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Assemble polygons with holes from the specified rings based on the
+	 * containment graph. Rings nested at an even depth become shells, rings
+	 * nested directly within a shell become holes of that shell.
+	 * 
+	 * @param rings
+	 *            the rings to assemble, in the order the polygons should be
+	 *            created.
+	 * @param graph
+	 *            the containment graph of the rings.
+	 * @param factory
+	 *            the factory to use.
+	 * @return the newly created multipolygon.
+	 */
+	public static MultiPolygon assemble(Collection<LinearRing> rings,
+			Graph<LinearRing> graph, GeometryFactory factory)
+	{
+		List<Polygon> polygons = new ArrayList<>();
+		for (LinearRing r : rings) {
+			int d = graph.degreeIn(r);
+			if (d % 2 == 0) {
+				Set<LinearRing> possiblyInner = graph.getEdgesOut(r);
+				Set<LinearRing> inner = new HashSet<>();
+				for (LinearRing q : possiblyInner) {
+					if (graph.degreeIn(q) == d + 1) {
+						inner.add(q);
+					}
+				}
+				LinearRing[] holes = inner.toArray(new LinearRing[0]);
+				polygons.add(new Polygon(r, holes, factory));
+			}
+		}
+
+		Polygon[] ps = polygons.toArray(new Polygon[0]);
+		return new MultiPolygon(ps, factory);
+	}
+
+}
@@ -0,0 +1,217 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+
+/**
+ * Computes the union of the shells of a MultiPolygon, i.e. the MultiPolygon
+ * with all holes removed.
+ * 
+ * Shells are indexed by their envelopes to find pairs of interacting shells.
+ * Shells covered by another shell are dropped, disjoint shells are passed
+ * through without any overlay operation and only clusters of overlapping
+ * shells are unioned. Clusters are unioned in parallel.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class ShellUnion
+{
+
+	private static final int INTERSECTS = 0;
+	private static final int COVERS = 1;
+	private static final int COVERED = 2;
+
+	/**
+	 * Compute the union of all shells of the specified multipolygon.
+	 * 
+	 * @param mp
+	 *            the input multipolygon.
+	 * @return the union of the shells or null if there are no non-empty
+	 *         parts.
+	 */
+	public static Geometry union(MultiPolygon mp)
+	{
+		GeometryFactory factory = mp.getFactory();
+
+		List<Polygon> shells = new ArrayList<>(mp.getNumGeometries());
+		for (int i = 0; i < mp.getNumGeometries(); i++) {
+			Polygon polygon = (Polygon) mp.getGeometryN(i);
+			if (polygon.isEmpty()) {
+				continue;
+			}
+			LinearRing ring = polygon.getExteriorRing();
+			shells.add(factory.createPolygon(ring, null));
+		}
+		if (shells.isEmpty()) {
+			return null;
+		}
+		if (shells.size() == 1) {
+			return shells.get(0);
+		}
+
+		STRtree tree = new STRtree();
+		for (int i = 0; i < shells.size(); i++) {
+			tree.insert(shells.get(i).getEnvelopeInternal(), i);
+		}
+		tree.build();
+
+		int n = shells.size();
+		List<int[]> interactions = IntStream.range(0, n).parallel()
+				.mapToObj(i -> interactions(i, shells, tree))
+				.collect(Collectors.toList());
+
+		// Merge interacting shells into clusters and drop covered shells
+		int[] parent = new int[n];
+		for (int i = 0; i < n; i++) {
+			parent[i] = i;
+		}
+		boolean[] covered = new boolean[n];
+		for (int i = 0; i < n; i++) {
+			int[] pairs = interactions.get(i);
+			for (int k = 0; k < pairs.length; k += 2) {
+				int j = pairs[k];
+				if (pairs[k + 1] == COVERS) {
+					covered[j] = true;
+				} else if (pairs[k + 1] == COVERED) {
+					covered[i] = true;
+				}
+				union(parent, i, j);
+			}
+		}
+
+		List<List<Polygon>> clusters = new ArrayList<>();
+		int[] clusterIds = new int[n];
+		for (int i = 0; i < n; i++) {
+			clusterIds[i] = -1;
+		}
+		for (int i = 0; i < n; i++) {
+			if (covered[i]) {
+				continue;
+			}
+			int root = find(parent, i);
+			if (clusterIds[root] < 0) {
+				clusterIds[root] = clusters.size();
+				clusters.add(new ArrayList<>(1));
+			}
+			clusters.get(clusterIds[root]).add(shells.get(i));
+		}
+
+		List<Geometry> unions = clusters.parallelStream().map(cluster -> {
+			if (cluster.size() == 1) {
+				return cluster.get(0);
+			}
+			return CascadedPolygonUnion.union(cluster);
+		}).collect(Collectors.toList());
+
+		List<Polygon> results = new ArrayList<>();
+		for (Geometry geometry : unions) {
+			for (int i = 0; i < geometry.getNumGeometries(); i++) {
+				Polygon polygon = (Polygon) geometry.getGeometryN(i);
+				if (!polygon.isEmpty()) {
+					results.add(polygon);
+				}
+			}
+		}
+		if (results.size() == 1) {
+			return results.get(0);
+		}
+		return factory.createMultiPolygon(results.toArray(new Polygon[0]));
+	}
+
+	/**
+	 * Find the shells with a higher index than i that interact with shell i.
+	 * 
+	 * @return pairs of (index, relation) where relation is one of
+	 *         {@link #INTERSECTS}, {@link #COVERS} (shell i covers the other
+	 *         shell) and {@link #COVERED} (shell i is covered by the other
+	 *         shell).
+	 */
+	private static int[] interactions(int i, List<Polygon> shells,
+			STRtree tree)
+	{
+		Polygon shell = shells.get(i);
+		Envelope envelope = shell.getEnvelopeInternal();
+		@SuppressWarnings("unchecked")
+		List<Integer> candidates = tree.query(envelope);
+
+		int[] pairs = new int[0];
+		int size = 0;
+		PreparedGeometry prepared = null;
+		for (int j : candidates) {
+			if (j <= i) {
+				continue;
+			}
+			Polygon other = shells.get(j);
+			Envelope otherEnvelope = other.getEnvelopeInternal();
+			if (prepared == null) {
+				prepared = PreparedGeometryFactory.prepare(shell);
+			}
+			int relation;
+			if (envelope.covers(otherEnvelope) && prepared.covers(other)) {
+				relation = COVERS;
+			} else if (otherEnvelope.covers(envelope) && other.covers(shell)) {
+				relation = COVERED;
+			} else if (prepared.intersects(other)) {
+				relation = INTERSECTS;
+			} else {
+				continue;
+			}
+			if (size == pairs.length) {
+				pairs = Arrays.copyOf(pairs, Math.max(4, size * 2));
+			}
+			pairs[size++] = j;
+			pairs[size++] = relation;
+		}
+		return Arrays.copyOf(pairs, size);
+	}
+
+	private static int find(int[] parent, int i)
+	{
+		while (parent[i] != i) {
+			parent[i] = parent[parent[i]];
+			i = parent[i];
+		}
+		return i;
+	}
+
+	private static void union(int[] parent, int a, int b)
+	{
+		int ra = find(parent, a);
+		int rb = find(parent, b);
+		if (ra != rb) {
+			parent[rb] = ra;
+		}
+	}
+
+}
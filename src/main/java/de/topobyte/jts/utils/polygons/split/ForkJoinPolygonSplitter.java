@@ -0,0 +1,239 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons.split;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.Polygonal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A parallel version of
+ * {@link PolygonSplitUtil#split(Geometry, int, SplitMode)} based on the
+ * fork/join framework. The intersections of a single split step
+ * as well as the recursive splitting of the resulting parts are executed as
+ * separate tasks. Geometries with less points than a configurable threshold
+ * are split using the sequential implementation.
+ * 
+ * The order of the returned pieces is the same as the order produced by the
+ * sequential implementation for the same sequence of split rectangles.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class ForkJoinPolygonSplitter
+{
+
+	final static Logger logger = LoggerFactory
+			.getLogger(ForkJoinPolygonSplitter.class);
+
+	public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 10000;
+
+	private ForkJoinPool pool;
+	private int sequentialThreshold;
+	private SplitRetryPolicy policy;
+
+	/**
+	 * Create a splitter that executes on the common pool.
+	 */
+	public ForkJoinPolygonSplitter()
+	{
+		this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+	}
+
+	/**
+	 * @param pool
+	 *            the pool to execute tasks on.
+	 * @param sequentialThreshold
+	 *            geometries with less points than this are split
+	 *            sequentially.
+	 */
+	public ForkJoinPolygonSplitter(ForkJoinPool pool, int sequentialThreshold)
+	{
+		this(pool, sequentialThreshold, PolygonSplitUtil.getDefaultPolicy());
+	}
+
+	/**
+	 * @param pool
+	 *            the pool to execute tasks on.
+	 * @param sequentialThreshold
+	 *            geometries with less points than this are split
+	 *            sequentially.
+	 * @param policy
+	 *            the policy for retrying failed split steps.
+	 */
+	public ForkJoinPolygonSplitter(ForkJoinPool pool, int sequentialThreshold,
+			SplitRetryPolicy policy)
+	{
+		this.pool = pool;
+		this.sequentialThreshold = sequentialThreshold;
+		this.policy = policy;
+	}
+
+	public ForkJoinPool getPool()
+	{
+		return pool;
+	}
+
+	public int getSequentialThreshold()
+	{
+		return sequentialThreshold;
+	}
+
+	public SplitRetryPolicy getPolicy()
+	{
+		return policy;
+	}
+
+	/**
+	 * @throws SplitException
+	 *             if a split step failed within the limits of the policy.
+	 */
+	public List<Geometry> split(Geometry geometry, int maxPoints,
+			SplitMode mode)
+	{
+		if (!(geometry instanceof Polygonal)) {
+			throw new IllegalArgumentException(
+					"split only accepts Polygonal arguments");
+		}
+		return pool.invoke(new SplitTask(geometry, maxPoints, mode));
+	}
+
+	private class SplitTask extends RecursiveTask<List<Geometry>>
+	{
+
+		private static final long serialVersionUID = 1L;
+
+		private Geometry geometry;
+		private int maxPoints;
+		private SplitMode mode;
+
+		SplitTask(Geometry geometry, int maxPoints, SplitMode mode)
+		{
+			this.geometry = geometry;
+			this.maxPoints = maxPoints;
+			this.mode = mode;
+		}
+
+		@Override
+		protected List<Geometry> compute()
+		{
+			int numPoints = geometry.getNumPoints();
+			if (numPoints <= maxPoints) {
+				List<Geometry> results = new ArrayList<>(1);
+				results.add(geometry);
+				return results;
+			}
+			if (numPoints < sequentialThreshold) {
+				return PolygonSplitUtil.reallySplit(geometry, maxPoints, mode,
+						policy);
+			}
+
+			List<Geometry> parts;
+			if (geometry instanceof GeometryCollection) {
+				GeometryCollection gc = (GeometryCollection) geometry;
+				parts = new ArrayList<>(gc.getNumGeometries());
+				for (int i = 0; i < gc.getNumGeometries(); i++) {
+					parts.add(gc.getGeometryN(i));
+				}
+			} else {
+				// uses a selector of its own, tasks may run on different
+				// threads
+				parts = policy.split(geometry, mode, maxPoints, PARALLEL);
+			}
+			// release the reference to the input early
+			geometry = null;
+
+			List<SplitTask> tasks = new ArrayList<>(parts.size());
+			for (Geometry part : parts) {
+				tasks.add(new SplitTask(part, maxPoints, mode));
+			}
+			invokeAll(tasks);
+
+			List<Geometry> results = new ArrayList<>();
+			for (SplitTask task : tasks) {
+				results.addAll(task.join());
+			}
+			return results;
+		}
+
+	}
+
+	/**
+	 * Computes the intersections of a single attempt as separate tasks.
+	 */
+	private static final RectangleIntersector PARALLEL = new RectangleIntersector() {
+
+		@Override
+		public List<Geometry> intersect(Geometry geometry,
+				List<Polygon> rectangles, boolean slabs, boolean overlayNG)
+		{
+			List<IntersectionTask> tasks = new ArrayList<>(rectangles.size());
+			for (Polygon rect : rectangles) {
+				tasks.add(new IntersectionTask(geometry, rect, overlayNG));
+			}
+			RecursiveTask.invokeAll(tasks);
+
+			List<Geometry> intersections = new ArrayList<>(tasks.size());
+			for (IntersectionTask task : tasks) {
+				Geometry intersection = task.join();
+				if (intersection == null) {
+					return null;
+				}
+				intersections.add(intersection);
+			}
+			return intersections;
+		}
+
+	};
+
+	/**
+	 * Computes the intersection of a geometry and a split rectangle. Returns
+	 * null if the intersection failed or is not polygonal.
+	 */
+	private static class IntersectionTask extends RecursiveTask<Geometry>
+	{
+
+		private static final long serialVersionUID = 1L;
+
+		private Geometry geometry;
+		private Polygon rect;
+		private boolean overlayNG;
+
+		IntersectionTask(Geometry geometry, Polygon rect, boolean overlayNG)
+		{
+			this.geometry = geometry;
+			this.rect = rect;
+			this.overlayNG = overlayNG;
+		}
+
+		@Override
+		protected Geometry compute()
+		{
+			return PolygonSplitUtil.intersect(geometry, rect, overlayNG);
+		}
+
+	}
+
+}
@@ -18,113 +18,385 @@
 package de.topobyte.jts.utils.polygons.split;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
 
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.Polygonal;
 import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.topobyte.jts.utils.JtsHelper;
+import de.topobyte.jts.utils.select.OrdinateSelector;
+
 public class PolygonSplitUtil
 {
 
 	final static Logger logger = LoggerFactory
 			.getLogger(PolygonSplitUtil.class);
 
+	private static final SplitRetryPolicy DEFAULT_POLICY = new SplitRetryPolicy();
+
+	/**
+	 * @return the retry policy used by the methods that do not accept a
+	 *         policy explicitly.
+	 */
+	public static SplitRetryPolicy getDefaultPolicy()
+	{
+		return DEFAULT_POLICY;
+	}
+
 	public static List<Geometry> split(Geometry geometry, SplitMode mode)
+	{
+		return split(geometry, mode, DEFAULT_POLICY);
+	}
+
+	/**
+	 * Split the geometry once.
+	 * 
+	 * @throws SplitException
+	 *             if the geometry could not be split within the limits of the
+	 *             policy.
+	 */
+	public static List<Geometry> split(Geometry geometry, SplitMode mode,
+			SplitRetryPolicy policy)
 	{
 		if (!(geometry instanceof Polygonal)) {
 			throw new IllegalArgumentException(
 					"split only accepts Polygonal arguments");
 		}
-		return reallySplit(geometry, mode);
+		return policy.split(geometry, mode, 0, SEQUENTIAL);
 	}
 
-	// only Polygonal arguments expected here
-	private static List<Geometry> reallySplit(Geometry geometry, SplitMode mode)
+	static RectangleGenerator createRectangleGenerator(Geometry geometry,
+			SplitMode mode)
+	{
+		return createRectangleGenerator(geometry, mode, 0, null,
+				new OrdinateSelector());
+	}
+
+	/**
+	 * Create a rectangle generator for the specified mode. The maximum number
+	 * of points per piece is used by modes that split into a variable number
+	 * of pieces, a value &lt;= 0 denotes an unknown maximum. The random
+	 * number generator is used to vary split positions on retries and may be
+	 * null. The selector is used by axis-parallel modes to determine the
+	 * median and can be shared by all split steps on the same thread.
+	 */
+	static RectangleGenerator createRectangleGenerator(Geometry geometry,
+			SplitMode mode, int maxPoints, Random random,
+			OrdinateSelector selector)
 	{
 		RectangleGenerator rg = null;
 		switch (mode) {
 		default:
 		case PCA:
-			rg = new RectangleGeneratorPCA(geometry);
+			rg = new RectangleGeneratorPCA(geometry, random);
 			break;
 		case HORIZONTAL:
-			rg = new RectangleGeneratorAxis(geometry, true);
+			rg = new RectangleGeneratorAxis(geometry, true, selector,
+					random);
 			break;
 		case VERTICAL:
-			rg = new RectangleGeneratorAxis(geometry, false);
+			rg = new RectangleGeneratorAxis(geometry, false, selector,
+					random);
 			break;
 		case ALTERNATING:
-			rg = new RectangleGeneratorAlternating(geometry);
+			rg = new RectangleGeneratorAlternating(geometry, selector,
+					random);
+			break;
+		case COST:
+			rg = new RectangleGeneratorCost(geometry,
+					numPieces(geometry, maxPoints), random);
 			break;
 		}
-		return split(geometry, rg);
+		return rg;
 	}
 
-	private static List<Geometry> split(Geometry geometry, RectangleGenerator rg)
+	/**
+	 * The number of pieces to split into at once for modes that support
+	 * k-way splits, such that pieces are expected to have no more than
+	 * maxPoints points.
+	 */
+	static int numPieces(Geometry geometry, int maxPoints)
 	{
-		while (true) {
-			List<Geometry> intersections = new ArrayList<>();
-			List<Polygon> rectangles = rg.createRectangles();
+		if (maxPoints <= 0) {
+			return 2;
+		}
+		// leave some room for the vertices introduced by the cuts
+		long numPoints = geometry.getNumPoints();
+		numPoints += numPoints / 16;
+		int pieces = (int) ((numPoints + maxPoints - 1) / maxPoints);
+		return Math.max(2,
+				Math.min(RectangleGeneratorCost.DEFAULT_MAX_PIECES, pieces));
+	}
 
-			boolean ok = true;
-			for (Polygon rect : rectangles) {
-				Geometry intersection;
-				try {
-					intersection = geometry.intersection(rect);
-				} catch (TopologyException e) {
-					logger.info("TopologyException during split");
-					ok = false;
-					break;
+	/**
+	 * Computes the intersections of a single attempt on the calling thread.
+	 */
+	static final RectangleIntersector SEQUENTIAL = new RectangleIntersector() {
+
+		@Override
+		public List<Geometry> intersect(Geometry geometry,
+				List<Polygon> rectangles, boolean slabs, boolean overlayNG)
+		{
+			List<Geometry> intersections = new ArrayList<>(rectangles.size());
+			if (slabs && rectangles.size() > 2) {
+				if (!intersectSlabs(geometry, rectangles, 0, rectangles.size(),
+						overlayNG, intersections)) {
+					return null;
 				}
-				if (!(intersection instanceof Polygonal)) {
-					logger.info("Non-Polygonal results during split");
-					ok = false;
-					break;
+				return intersections;
+			}
+			for (Polygon rect : rectangles) {
+				Geometry intersection = PolygonSplitUtil.intersect(geometry,
+						rect, overlayNG);
+				if (intersection == null) {
+					return null;
 				}
 				intersections.add(intersection);
 			}
-			if (ok) {
-				return intersections;
+			return intersections;
+		}
+
+	};
+
+	/**
+	 * Intersect the geometry with the slabs in the range [from, to) by
+	 * recursively intersecting it with the rectangle covering each half of
+	 * the range first, so that each slab is intersected with a small part of
+	 * the geometry only.
+	 */
+	private static boolean intersectSlabs(Geometry geometry,
+			List<Polygon> slabs, int from, int to, boolean overlayNG,
+			List<Geometry> results)
+	{
+		if (to - from == 1) {
+			Geometry intersection = intersect(geometry, slabs.get(from),
+					overlayNG);
+			if (intersection == null) {
+				return false;
 			}
+			results.add(intersection);
+			return true;
 		}
+		int mid = (from + to) >>> 1;
+		return intersectHalf(geometry, slabs, from, mid, overlayNG, results)
+				&& intersectHalf(geometry, slabs, mid, to, overlayNG, results);
+	}
+
+	private static boolean intersectHalf(Geometry geometry,
+			List<Polygon> slabs, int from, int to, boolean overlayNG,
+			List<Geometry> results)
+	{
+		if (to - from == 1) {
+			return intersectSlabs(geometry, slabs, from, to, overlayNG,
+					results);
+		}
+		// adjacent slabs are covered by their common envelope
+		Envelope cover = new Envelope();
+		for (int i = from; i < to; i++) {
+			cover.expandToInclude(slabs.get(i).getEnvelopeInternal());
+		}
+		Geometry part = intersect(geometry, JtsHelper.toGeometry(cover),
+				overlayNG);
+		if (part == null) {
+			return false;
+		}
+		return intersectSlabs(part, slabs, from, to, overlayNG, results);
+	}
+
+	/**
+	 * Intersect the geometry with the rectangle. Returns null if the
+	 * intersection failed or is not polygonal.
+	 */
+	static Geometry intersect(Geometry geometry, Polygon rect,
+			boolean overlayNG)
+	{
+		Geometry intersection;
+		try {
+			if (overlayNG) {
+				intersection = OverlayNGRobust.overlay(geometry, rect,
+						OverlayNG.INTERSECTION);
+			} else {
+				intersection = geometry.intersection(rect);
+			}
+		} catch (TopologyException e) {
+			logger.debug("TopologyException during split");
+			return null;
+		}
+		if (!(intersection instanceof Polygonal)) {
+			logger.debug("Non-Polygonal results during split");
+			return null;
+		}
+		return intersection;
 	}
 
 	public static List<Geometry> split(Geometry geometry, int maxPoints,
 			SplitMode mode)
+	{
+		return split(geometry, maxPoints, mode, DEFAULT_POLICY);
+	}
+
+	/**
+	 * Split the geometry recursively until all pieces have at most maxPoints
+	 * points.
+	 * 
+	 * @throws SplitException
+	 *             if a split step failed within the limits of the policy.
+	 */
+	public static List<Geometry> split(Geometry geometry, int maxPoints,
+			SplitMode mode, SplitRetryPolicy policy)
 	{
 		if (!(geometry instanceof Polygonal)) {
 			throw new IllegalArgumentException(
 					"split only accepts Polygonal arguments");
 		}
-		return reallySplit(geometry, maxPoints, mode);
+		return reallySplit(geometry, maxPoints, mode, policy);
 	}
 
-	private static List<Geometry> reallySplit(Geometry geometry, int maxPoints,
-			SplitMode mode)
+	static List<Geometry> reallySplit(Geometry geometry, int maxPoints,
+			SplitMode mode, SplitRetryPolicy policy)
 	{
 		List<Geometry> results = new ArrayList<>();
+		new SplitIterator(geometry, maxPoints, mode, policy)
+				.forEachRemaining(results::add);
+		return results;
+	}
+
+	public static void split(Geometry geometry, int maxPoints, SplitMode mode,
+			Consumer<? super Geometry> consumer)
+	{
+		split(geometry, maxPoints, mode, DEFAULT_POLICY, consumer);
+	}
+
+	/**
+	 * Split the geometry recursively until all pieces have at most maxPoints
+	 * points and pass each piece to the consumer as soon as it is available,
+	 * in the same order as returned by
+	 * {@link #split(Geometry, int, SplitMode, SplitRetryPolicy)}. Only the
+	 * geometries along the current path of the recursion are kept in memory,
+	 * not the pieces already passed to the consumer.
+	 * 
+	 * @throws SplitException
+	 *             if a split step failed within the limits of the policy.
+	 */
+	public static void split(Geometry geometry, int maxPoints, SplitMode mode,
+			SplitRetryPolicy policy, Consumer<? super Geometry> consumer)
+	{
+		splitIterator(geometry, maxPoints, mode, policy)
+				.forEachRemaining(consumer);
+	}
+
+	public static Iterator<Geometry> splitIterator(Geometry geometry,
+			int maxPoints, SplitMode mode)
+	{
+		return splitIterator(geometry, maxPoints, mode, DEFAULT_POLICY);
+	}
+
+	/**
+	 * Create an iterator that splits the geometry lazily while iterating. See
+	 * {@link #split(Geometry, int, SplitMode, SplitRetryPolicy, Consumer)}.
+	 * The iterator throws a {@link SplitException} if a split step failed
+	 * within the limits of the policy.
+	 */
+	public static Iterator<Geometry> splitIterator(Geometry geometry,
+			int maxPoints, SplitMode mode, SplitRetryPolicy policy)
+	{
+		if (!(geometry instanceof Polygonal)) {
+			throw new IllegalArgumentException(
+					"split only accepts Polygonal arguments");
+		}
+		return new SplitIterator(geometry, maxPoints, mode, policy);
+	}
+
+	public static SplitTree splitTree(Geometry geometry, int maxPoints,
+			SplitMode mode)
+	{
+		return splitTree(geometry, maxPoints, mode, DEFAULT_POLICY);
+	}
+
+	/**
+	 * Split the geometry recursively until all pieces have at most maxPoints
+	 * points and keep the structure of the recursion.
+	 * 
+	 * @throws SplitException
+	 *             if a split step failed within the limits of the policy.
+	 */
+	public static SplitTree splitTree(Geometry geometry, int maxPoints,
+			SplitMode mode, SplitRetryPolicy policy)
+	{
+		if (!(geometry instanceof Polygonal)) {
+			throw new IllegalArgumentException(
+					"split only accepts Polygonal arguments");
+		}
+		List<SplitTree.Node> leaves = new ArrayList<>();
+		Envelope region = new Envelope(geometry.getEnvelopeInternal());
+		SplitTree.Node root = reallySplitTree(geometry, region, maxPoints,
+				mode, policy, new OrdinateSelector(), leaves);
+		return new SplitTree(root, leaves);
+	}
+
+	private static SplitTree.Node reallySplitTree(Geometry geometry,
+			Envelope region, int maxPoints, SplitMode mode,
+			SplitRetryPolicy policy, OrdinateSelector selector,
+			List<SplitTree.Node> leaves)
+	{
+		if (geometry.isEmpty()) {
+			return new SplitTree.Node(geometry, -1, region);
+		}
 		if (geometry.getNumPoints() <= maxPoints) {
-			results.add(geometry);
-		} else if (geometry instanceof GeometryCollection) {
+			SplitTree.Node leaf = new SplitTree.Node(geometry, leaves.size(),
+					region);
+			leaves.add(leaf);
+			return leaf;
+		}
+
+		if (geometry instanceof GeometryCollection) {
+			// the components share the region of the collection
 			GeometryCollection gc = (GeometryCollection) geometry;
-			for (int i = 0; i < gc.getNumGeometries(); i++) {
-				Geometry part = gc.getGeometryN(i);
-				List<Geometry> split = reallySplit(part, maxPoints, mode);
-				results.addAll(split);
-			}
-		} else {
-			List<Geometry> parts = split(geometry, mode);
-			for (Geometry part : parts) {
-				List<Geometry> split = reallySplit(part, maxPoints, mode);
-				results.addAll(split);
+			SplitTree.Node[] children = new SplitTree.Node[gc
+					.getNumGeometries()];
+			for (int i = 0; i < children.length; i++) {
+				children[i] = reallySplitTree(gc.getGeometryN(i), region,
+						maxPoints, mode, policy, selector, leaves);
 			}
+			return new SplitTree.Node(geometry.getEnvelopeInternal(), region,
+					false, children);
 		}
-		return results;
+
+		List<Polygon> rectangles = new ArrayList<>();
+		List<Geometry> parts = policy.split(geometry, mode, maxPoints,
+				SEQUENTIAL, rectangles, selector);
+		SplitTree.Node[] children = new SplitTree.Node[parts.size()];
+		for (int i = 0; i < children.length; i++) {
+			children[i] = reallySplitTree(parts.get(i),
+					region(region, rectangles.get(i)), maxPoints, mode,
+					policy, selector, leaves);
+		}
+		return new SplitTree.Node(geometry.getEnvelopeInternal(), region,
+				true, children);
+	}
+
+	/**
+	 * The region of a part that has been cut with the specified rectangle
+	 * from a geometry with the specified region. Returns null if the region
+	 * cannot be represented by an envelope.
+	 */
+	private static Envelope region(Envelope region, Polygon rectangle)
+	{
+		if (region == null || !rectangle.isRectangle()) {
+			return null;
+		}
+		return region.intersection(rectangle.getEnvelopeInternal());
 	}
 
 }
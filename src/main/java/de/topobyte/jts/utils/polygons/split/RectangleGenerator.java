@@ -26,4 +26,15 @@ public interface RectangleGenerator
 
 	public List<Polygon> createRectangles();
 
+	/**
+	 * Whether the created rectangles are adjacent slabs ordered along one
+	 * axis, such that any range of consecutive rectangles is covered exactly
+	 * by its envelope. This allows intersecting a geometry with many
+	 * rectangles hierarchically.
+	 */
+	public default boolean isSlabs()
+	{
+		return false;
+	}
+
 }
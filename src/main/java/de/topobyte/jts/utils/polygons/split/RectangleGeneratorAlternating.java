@@ -18,21 +18,41 @@
 package de.topobyte.jts.utils.polygons.split;
 
 import java.util.List;
+import java.util.Random;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Polygon;
 
+import de.topobyte.jts.utils.select.OrdinateSelector;
+
 public class RectangleGeneratorAlternating implements RectangleGenerator
 {
 
 	private RectangleGenerator delegate;
 
 	public RectangleGeneratorAlternating(Geometry geometry)
+	{
+		this(geometry, null);
+	}
+
+	public RectangleGeneratorAlternating(Geometry geometry, Random random)
+	{
+		this(geometry, new OrdinateSelector(), random);
+	}
+
+	/**
+	 * @param selector
+	 *            a selector whose buffer will be used to determine the median
+	 *            of the coordinates, see {@link RectangleGeneratorAxis}.
+	 */
+	public RectangleGeneratorAlternating(Geometry geometry,
+			OrdinateSelector selector, Random random)
 	{
 		Envelope envelope = geometry.getEnvelopeInternal();
 		boolean horizontal = envelope.getWidth() > envelope.getHeight();
-		delegate = new RectangleGeneratorAxis(geometry, horizontal);
+		delegate = new RectangleGeneratorAxis(geometry, horizontal, selector,
+				random);
 	}
 
 	@Override
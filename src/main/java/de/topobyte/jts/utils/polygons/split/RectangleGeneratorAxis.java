@@ -18,11 +18,9 @@
 package de.topobyte.jts.utils.polygons.split;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
-import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Polygon;
@@ -30,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.topobyte.jts.utils.JtsHelper;
+import de.topobyte.jts.utils.select.OrdinateSelector;
 
 public class RectangleGeneratorAxis implements RectangleGenerator
 {
@@ -51,8 +50,34 @@ public class RectangleGeneratorAxis implements RectangleGenerator
 	private int tries = 0;
 
 	public RectangleGeneratorAxis(Geometry geometry, boolean horizontal)
+	{
+		this(geometry, horizontal, new OrdinateSelector());
+	}
+
+	/**
+	 * @param selector
+	 *            a selector whose buffer will be used to determine the median
+	 *            of the coordinates. Can be shared between generators that are
+	 *            used on the same thread to avoid allocating a new buffer per
+	 *            geometry.
+	 */
+	public RectangleGeneratorAxis(Geometry geometry, boolean horizontal,
+			OrdinateSelector selector)
+	{
+		this(geometry, horizontal, selector, null);
+	}
+
+	/**
+	 * @param random
+	 *            the random number generator to use for varying the split
+	 *            position on retries or null to create an unseeded one when
+	 *            needed.
+	 */
+	public RectangleGeneratorAxis(Geometry geometry, boolean horizontal,
+			OrdinateSelector selector, Random random)
 	{
 		this.horizontal = horizontal;
+		this.random = random;
 		envelope = geometry.getEnvelopeInternal();
 		double width = envelope.getWidth();
 		double height = envelope.getHeight();
@@ -61,13 +86,8 @@ public class RectangleGeneratorAxis implements RectangleGenerator
 		safeBox = new Envelope(envelope.getMinX() - safeH, envelope.getMaxX()
 				+ safeH, envelope.getMinY() - safeV, envelope.getMaxY() + safeV);
 
-		List<Double> values = new ArrayList<>();
-		Coordinate[] coordinates = geometry.getCoordinates();
-		for (int i = 0; i < coordinates.length; i++) {
-			values.add(horizontal ? coordinates[i].x : coordinates[i].y);
-		}
-		Collections.sort(values);
-		double median = values.get(values.size() / 2);
+		selector.load(geometry, horizontal);
+		double median = selector.median();
 		if (horizontal) {
 			rmedian = (median - envelope.getMinX()) / envelope.getWidth();
 		} else {
@@ -114,10 +134,10 @@ public class RectangleGeneratorAxis implements RectangleGenerator
 			random = new Random();
 		}
 		split = rmedian + random.nextDouble() * span - span / 2;
-		logger.info("Trying with different split position: " + split);
+		logger.debug("Trying with different split position: {}", split);
 		if (span * spanIncrease < 0.5) {
 			span *= spanIncrease;
-			logger.info("Increasing span to: " + span);
+			logger.debug("Increasing span to: {}", span);
 		}
 	}
 
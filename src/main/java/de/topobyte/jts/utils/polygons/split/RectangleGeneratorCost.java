@@ -0,0 +1,465 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons.split;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.topobyte.jts.utils.JtsHelper;
+
+/**
+ * Splits a geometry into k slabs along one of the coordinate axes in a single
+ * step. The cut positions are planned using a cost function that is
+ * evaluated for a number of candidate positions around the k-quantiles of the
+ * vertex ordinates. The cost of a cut is the number of vertices it adds to
+ * the resulting pieces (two per edge crossed by the cut line), the deviation
+ * of the number of vertices before the cut from the ideal, balanced number
+ * and a term for the length of the cut. The length of a cut is the distance
+ * between the outermost edges it crosses; a cut across the whole longer side
+ * of the envelope costs as much as missing the ideal rank by half a slab. The
+ * axis with the lower cost per cut is used.
+ * 
+ * Counting the edges crossed by a cut line uses sorted arrays of the edges'
+ * extents along each axis, so that each candidate can be evaluated with
+ * binary searches after a single O(n log n) preprocessing step. The lengths
+ * of all candidate cuts are computed in a single pass over the edges.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class RectangleGeneratorCost implements RectangleGenerator
+{
+
+	final static Logger logger = LoggerFactory
+			.getLogger(RectangleGeneratorCost.class);
+
+	public static final int DEFAULT_MAX_PIECES = 16;
+
+	// number of candidates evaluated on each side of a quantile
+	private static final int CANDIDATES = 8;
+
+	// minimum distance between shifted cuts relative to the slab width
+	private static final double MIN_SPACING = 0.01;
+
+	private double safetyFactor = 1.1;
+	private Envelope envelope;
+	private Envelope safeBox;
+
+	private boolean horizontal;
+	private double[] plannedCuts;
+	private double[] cuts;
+
+	private Random random = null;
+	private double span = 0.1;
+	private double spanIncrease = 1.01;
+
+	private int tries = 0;
+
+	/**
+	 * @param geometry
+	 *            the geometry to split.
+	 * @param pieces
+	 *            the number of pieces to split the geometry into. Fewer pieces
+	 *            may be created if the geometry does not have enough distinct
+	 *            coordinates.
+	 */
+	public RectangleGeneratorCost(Geometry geometry, int pieces)
+	{
+		this(geometry, pieces, null);
+	}
+
+	/**
+	 * @param geometry
+	 *            the geometry to split.
+	 * @param pieces
+	 *            the number of pieces to split the geometry into.
+	 * @param random
+	 *            the random number generator to use for varying the cut
+	 *            positions on retries or null to create an unseeded one when
+	 *            needed.
+	 */
+	public RectangleGeneratorCost(Geometry geometry, int pieces, Random random)
+	{
+		this.random = random;
+		envelope = geometry.getEnvelopeInternal();
+		double width = envelope.getWidth();
+		double height = envelope.getHeight();
+		double safeH = ((width * safetyFactor) - width) / 2;
+		double safeV = ((height * safetyFactor) - height) / 2;
+		safeBox = new Envelope(envelope.getMinX() - safeH, envelope.getMaxX()
+				+ safeH, envelope.getMinY() - safeV, envelope.getMaxY() + safeV);
+
+		pieces = Math.max(2, pieces);
+		double size = Math.max(width, height);
+		Plan planX = new Profile(geometry, true).plan(pieces, size);
+		Plan planY = new Profile(geometry, false).plan(pieces, size);
+
+		// prefer the axis with the lower cost per cut, comparing the cross
+		// products avoids the division
+		long costX = planX.cost * Math.max(1, planY.cuts.length);
+		long costY = planY.cost * Math.max(1, planX.cuts.length);
+		if (planX.cuts.length == 0 || planY.cuts.length == 0) {
+			horizontal = planX.cuts.length > 0;
+		} else if (costX != costY) {
+			horizontal = costX < costY;
+		} else {
+			horizontal = width >= height;
+		}
+		Plan plan = horizontal ? planX : planY;
+
+		if (plan.cuts.length == 0) {
+			// degenerate geometry, split the longer side in the middle
+			horizontal = width >= height;
+			double center = horizontal ? envelope.centre().x
+					: envelope.centre().y;
+			plan = new Plan(new double[] { center }, 0);
+		}
+		plannedCuts = plan.cuts;
+		cuts = plannedCuts;
+	}
+
+	/**
+	 * @return the number of rectangles created per invocation of
+	 *         {@link #createRectangles()}.
+	 */
+	public int getNumPieces()
+	{
+		return cuts.length + 1;
+	}
+
+	/**
+	 * @return whether the geometry is split by vertical lines, i.e. into
+	 *         slabs next to each other horizontally.
+	 */
+	public boolean isHorizontal()
+	{
+		return horizontal;
+	}
+
+	@Override
+	public boolean isSlabs()
+	{
+		return true;
+	}
+
+	@Override
+	public List<Polygon> createRectangles()
+	{
+		if (tries++ > 0) {
+			changeValues();
+		}
+		return createBoxes();
+	}
+
+	private List<Polygon> createBoxes()
+	{
+		List<Polygon> boxes = new ArrayList<>(cuts.length + 1);
+		double min = horizontal ? safeBox.getMinX() : safeBox.getMinY();
+		double max = horizontal ? safeBox.getMaxX() : safeBox.getMaxY();
+		double last = min;
+		for (int i = 0; i <= cuts.length; i++) {
+			double next = i < cuts.length ? cuts[i] : max;
+			Envelope e;
+			if (horizontal) {
+				e = new Envelope(last, next, safeBox.getMinY(),
+						safeBox.getMaxY());
+			} else {
+				e = new Envelope(safeBox.getMinX(), safeBox.getMaxX(), last,
+						next);
+			}
+			boxes.add(JtsHelper.toGeometry(e));
+			last = next;
+		}
+		return boxes;
+	}
+
+	private void changeValues()
+	{
+		// try different cut positions around the planned ones
+		if (random == null) {
+			random = new Random();
+		}
+		double extent = horizontal ? envelope.getWidth() : envelope.getHeight();
+		double slab = extent / (plannedCuts.length + 1);
+		double min = horizontal ? envelope.getMinX() : envelope.getMinY();
+		double max = horizontal ? envelope.getMaxX() : envelope.getMaxY();
+		// keep cuts apart from each other and from the envelope's bounds so
+		// that clamping cannot produce empty slabs
+		double gap = slab * MIN_SPACING;
+		double[] shifted = new double[plannedCuts.length];
+		for (int i = 0; i < shifted.length; i++) {
+			double shift = (random.nextDouble() * span - span / 2) * slab;
+			shifted[i] = Math.min(max - gap,
+					Math.max(min + gap, plannedCuts[i] + shift));
+		}
+		Arrays.sort(shifted);
+		int n = 0;
+		for (int i = 0; i < shifted.length; i++) {
+			if (n == 0 || shifted[i] - shifted[n - 1] >= gap) {
+				shifted[n++] = shifted[i];
+			}
+		}
+		cuts = n == shifted.length ? shifted : Arrays.copyOf(shifted, n);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Trying with different cut positions: {}",
+					Arrays.toString(cuts));
+		}
+		if (span * spanIncrease < 0.5) {
+			span *= spanIncrease;
+			logger.debug("Increasing span to: {}", span);
+		}
+	}
+
+	private static class Plan
+	{
+
+		final double[] cuts;
+		final long cost;
+
+		Plan(double[] cuts, long cost)
+		{
+			this.cuts = cuts;
+			this.cost = cost;
+		}
+
+	}
+
+	/**
+	 * Sorted vertex ordinates and edge extents along one axis.
+	 */
+	private static class Profile implements CoordinateSequenceFilter
+	{
+
+		private boolean horizontal;
+
+		private double[] vertices;
+		private double[] edgeMin;
+		private double[] edgeMax;
+		// per edge: start and end along the axis, start and end across it
+		private double[] segments;
+		private int numVertices = 0;
+		private int numEdges = 0;
+
+		Profile(Geometry geometry, boolean horizontal)
+		{
+			this.horizontal = horizontal;
+			int n = geometry.getNumPoints();
+			vertices = new double[n];
+			edgeMin = new double[n];
+			edgeMax = new double[n];
+			segments = new double[n * 4];
+			geometry.apply(this);
+			Arrays.sort(vertices, 0, numVertices);
+			Arrays.sort(edgeMin, 0, numEdges);
+			Arrays.sort(edgeMax, 0, numEdges);
+		}
+
+		@Override
+		public void filter(CoordinateSequence seq, int i)
+		{
+			double v = horizontal ? seq.getX(i) : seq.getY(i);
+			vertices[numVertices++] = v;
+			if (i > 0) {
+				double p = horizontal ? seq.getX(i - 1) : seq.getY(i - 1);
+				edgeMin[numEdges] = Math.min(p, v);
+				edgeMax[numEdges] = Math.max(p, v);
+				int k = numEdges * 4;
+				segments[k] = p;
+				segments[k + 1] = v;
+				segments[k + 2] = horizontal ? seq.getY(i - 1) : seq.getX(i - 1);
+				segments[k + 3] = horizontal ? seq.getY(i) : seq.getX(i);
+				numEdges++;
+			}
+		}
+
+		@Override
+		public boolean isDone()
+		{
+			return false;
+		}
+
+		@Override
+		public boolean isGeometryChanged()
+		{
+			return false;
+		}
+
+		/**
+		 * Number of values in the sorted range [0, size) less than c.
+		 */
+		private static int countLess(double[] values, int size, double c)
+		{
+			int lo = 0, hi = size;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (values[mid] < c) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return lo;
+		}
+
+		/**
+		 * Number of edges crossed by the line at position c.
+		 */
+		private int crossings(double c)
+		{
+			// edges starting before c minus edges ending before c
+			return countLess(edgeMin, numEdges, c)
+					- countLess(edgeMax, numEdges, c);
+		}
+
+		/**
+		 * Candidate cut position between the vertices with ranks r - 1 and r.
+		 */
+		private double position(int r)
+		{
+			return (vertices[r - 1] + vertices[r]) / 2;
+		}
+
+		/**
+		 * Candidate cut position for the cut with index i (1-based) and offset
+		 * j from the quantile or NaN if there is no valid candidate.
+		 */
+		private double candidate(int i, int j, int pieces, int step)
+		{
+			int n = numVertices;
+			long target = (long) n * i / pieces;
+			long r = target + (long) j * step;
+			if (r < 1 || r >= n) {
+				return Double.NaN;
+			}
+			double c = position((int) r);
+			if (c <= vertices[0] || c >= vertices[n - 1]) {
+				return Double.NaN;
+			}
+			return c;
+		}
+
+		/**
+		 * Compute the length of the cut at each of the sorted positions, i.e.
+		 * the distance between the outermost crossing points of the edges
+		 * crossed by the cut line.
+		 */
+		private double[] lengths(double[] positions, int size)
+		{
+			double[] low = new double[size];
+			double[] high = new double[size];
+			Arrays.fill(low, Double.POSITIVE_INFINITY);
+			Arrays.fill(high, Double.NEGATIVE_INFINITY);
+			for (int e = 0; e < numEdges; e++) {
+				int k = e * 4;
+				double a0 = segments[k], a1 = segments[k + 1];
+				double b0 = segments[k + 2], b1 = segments[k + 3];
+				double lo = Math.min(a0, a1), hi = Math.max(a0, a1);
+				// same convention as crossings(): lo < c <= hi
+				for (int p = countLess(positions, size, lo); p < size; p++) {
+					double c = positions[p];
+					if (c > hi) {
+						break;
+					}
+					if (c == lo) {
+						continue;
+					}
+					double b = b0 + (c - a0) * (b1 - b0) / (a1 - a0);
+					low[p] = Math.min(low[p], b);
+					high[p] = Math.max(high[p], b);
+				}
+			}
+			for (int p = 0; p < size; p++) {
+				low[p] = high[p] >= low[p] ? high[p] - low[p] : 0;
+			}
+			return low;
+		}
+
+		/**
+		 * @param size
+		 *            the length of the longer side of the geometry's envelope,
+		 *            used to weight the length of the cuts.
+		 */
+		Plan plan(int pieces, double size)
+		{
+			int n = numVertices;
+			double[] cuts = new double[pieces - 1];
+			int numCuts = 0;
+			long total = 0;
+
+			int step = Math.max(1, n / (pieces * 2 * CANDIDATES));
+
+			// lengths of all candidate cuts
+			double[] positions = new double[(pieces - 1)
+					* (2 * CANDIDATES + 1)];
+			int numPositions = 0;
+			for (int i = 1; i < pieces; i++) {
+				for (int j = -CANDIDATES; j <= CANDIDATES; j++) {
+					double c = candidate(i, j, pieces, step);
+					if (!Double.isNaN(c)) {
+						positions[numPositions++] = c;
+					}
+				}
+			}
+			Arrays.sort(positions, 0, numPositions);
+			double[] lengths = lengths(positions, numPositions);
+			// a cut across the whole longer side costs as much as missing the
+			// ideal rank by half a slab
+			double weight = size > 0 ? n / (2.0 * pieces) / size : 0;
+
+			for (int i = 1; i < pieces; i++) {
+				long target = (long) n * i / pieces;
+				double best = Double.NaN;
+				long bestCost = Long.MAX_VALUE;
+				for (int j = -CANDIDATES; j <= CANDIDATES; j++) {
+					double c = candidate(i, j, pieces, step);
+					if (Double.isNaN(c)) {
+						continue;
+					}
+					if (numCuts > 0 && c <= cuts[numCuts - 1]) {
+						continue;
+					}
+					int rank = countLess(vertices, n, c);
+					double length = lengths[countLess(positions,
+							numPositions, c)];
+					long cost = 2L * crossings(c) + Math.abs(rank - target)
+							+ Math.round(weight * length);
+					if (cost < bestCost) {
+						bestCost = cost;
+						best = c;
+					}
+				}
+				if (!Double.isNaN(best)) {
+					cuts[numCuts++] = best;
+					total += bestCost;
+				}
+			}
+			return new Plan(Arrays.copyOf(cuts, numCuts), total);
+		}
+
+	}
+
+}
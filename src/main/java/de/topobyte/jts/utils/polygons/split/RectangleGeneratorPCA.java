@@ -25,7 +25,7 @@ import org.locationtech.jts.geom.Polygon;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import de.topobyte.jts.utils.pca.PCA;
+import de.topobyte.jts.utils.pca.PCAStreaming;
 import de.topobyte.jts.utils.pca.PCAUtil;
 
 public class RectangleGeneratorPCA implements RectangleGenerator
@@ -34,7 +34,7 @@ public class RectangleGeneratorPCA implements RectangleGenerator
 	final static Logger logger = LoggerFactory
 			.getLogger(RectangleGeneratorPCA.class);
 
-	private PCA pca;
+	private PCAStreaming pca;
 	private double split = 0.5;
 	private Random random = null;
 	private double span = 0.1;
@@ -44,7 +44,19 @@ public class RectangleGeneratorPCA implements RectangleGenerator
 
 	public RectangleGeneratorPCA(Geometry geometry)
 	{
-		pca = new PCA(geometry);
+		this(geometry, null);
+	}
+
+	/**
+	 * @param random
+	 *            the random number generator to use for varying the split
+	 *            position on retries or null to create an unseeded one when
+	 *            needed.
+	 */
+	public RectangleGeneratorPCA(Geometry geometry, Random random)
+	{
+		pca = new PCAStreaming(geometry);
+		this.random = random;
 	}
 
 	@Override
@@ -63,10 +75,10 @@ public class RectangleGeneratorPCA implements RectangleGenerator
 			random = new Random();
 		}
 		split = 0.5 + random.nextDouble() * span - span / 2;
-		logger.info("Trying with different split position: " + split);
+		logger.debug("Trying with different split position: {}", split);
 		if (span * spanIncrease < 0.5) {
 			span *= spanIncrease;
-			logger.info("Increasing span to: " + span);
+			logger.debug("Increasing span to: {}", span);
 		}
 	}
 
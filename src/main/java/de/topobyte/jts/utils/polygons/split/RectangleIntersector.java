@@ -0,0 +1,45 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons.split;
+
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Intersects a geometry with the rectangles of a single split attempt.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+interface RectangleIntersector
+{
+
+	/**
+	 * @param slabs
+	 *            whether the rectangles are adjacent slabs, see
+	 *            {@link RectangleGenerator#isSlabs()}.
+	 * @param overlayNG
+	 *            whether to use OverlayNG for computing intersections.
+	 * @return the intersections in the order of the rectangles or null if any
+	 *         intersection failed or is not polygonal.
+	 */
+	List<Geometry> intersect(Geometry geometry, List<Polygon> rectangles,
+			boolean slabs, boolean overlayNG);
+
+}
@@ -0,0 +1,544 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons.split;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent, read-only store for the pieces of a split geometry. The
+ * pieces are written to a binary file together with their envelopes and
+ * regions (the axis-parallel split rectangles they have been cut with, see
+ * {@link SplitTree}), the parameters of the split and a SHA-256 hash of the
+ * source geometry.
+ * 
+ * The file starts with a fixed-size header followed by a table with one
+ * fixed-size entry per piece, a table with one fixed-size entry per node of
+ * the split tree and the pieces themselves encoded as WKB. When opened, the
+ * file is mapped into memory and only the header and tables are validated.
+ * Pieces are decoded on first access and kept afterwards, envelopes and
+ * regions are read directly from the tables. Queries by envelope descend the
+ * stored tree like {@link SplitTree#query(Envelope)} and only decode the
+ * pieces they return.
+ * 
+ * Instances are safe for use by multiple threads.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class SplitCache
+{
+
+	final static Logger logger = LoggerFactory.getLogger(SplitCache.class);
+
+	private static final int MAGIC = 0x4a545353; // "JTSS"
+	private static final int VERSION = 2;
+
+	private static final int HASH_SIZE = 32;
+	// magic, version, hash, max points, mode, number of pieces and nodes
+	private static final int HEADER_SIZE = 4 + 4 + HASH_SIZE + 4 + 4 + 4 + 4;
+	// offset, length, envelope, region
+	private static final int ENTRY_SIZE = 8 + 4 + 4 * 8 + 4 * 8;
+	// envelope, number of children, index of first child or piece
+	private static final int NODE_SIZE = 4 * 8 + 4 + 4;
+
+	private final ByteBuffer buffer;
+	private final GeometryFactory factory;
+
+	private final byte[] hash;
+	private final int maxPoints;
+	private final SplitMode mode;
+	private final int size;
+	private final int numNodes;
+
+	private final AtomicReferenceArray<Geometry> pieces;
+
+	private SplitCache(ByteBuffer buffer, GeometryFactory factory)
+			throws IOException
+	{
+		this.buffer = buffer;
+		this.factory = factory;
+
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("not a split cache file");
+		}
+		int version = buffer.getInt(4);
+		if (version != VERSION) {
+			throw new IOException("unsupported version: " + version);
+		}
+		hash = new byte[HASH_SIZE];
+		for (int i = 0; i < HASH_SIZE; i++) {
+			hash[i] = buffer.get(8 + i);
+		}
+		maxPoints = buffer.getInt(8 + HASH_SIZE);
+		int ordinal = buffer.getInt(12 + HASH_SIZE);
+		SplitMode[] modes = SplitMode.values();
+		if (ordinal < 0 || ordinal >= modes.length) {
+			throw new IOException("invalid split mode: " + ordinal);
+		}
+		mode = modes[ordinal];
+		size = buffer.getInt(16 + HASH_SIZE);
+		numNodes = buffer.getInt(20 + HASH_SIZE);
+		if (size < 0 || numNodes < 1 || (long) HEADER_SIZE
+				+ (long) size * ENTRY_SIZE
+				+ (long) numNodes * NODE_SIZE > buffer.capacity()) {
+			throw new IOException("truncated split cache file");
+		}
+		for (int i = 0; i < size; i++) {
+			long offset = buffer.getLong(entry(i));
+			int length = buffer.getInt(entry(i) + 8);
+			if (offset < 0 || length < 0
+					|| offset + length > buffer.capacity()) {
+				throw new IOException("invalid offset of piece " + i);
+			}
+		}
+		for (int i = 0; i < numNodes; i++) {
+			int children = buffer.getInt(node(i) + 32);
+			int value = buffer.getInt(node(i) + 36);
+			// children follow their parent, which guarantees termination
+			boolean valid = children == 0 ? value >= -1 && value < size
+					: children > 0 && value > i
+							&& (long) value + children <= numNodes;
+			if (!valid) {
+				throw new IOException("invalid node " + i);
+			}
+		}
+		pieces = new AtomicReferenceArray<>(size);
+	}
+
+	/**
+	 * Open a cache file using a default geometry factory for decoding the
+	 * pieces.
+	 */
+	public static SplitCache open(Path file) throws IOException
+	{
+		return open(file, new GeometryFactory());
+	}
+
+	/**
+	 * Open a cache file by mapping it into memory. The file is not read
+	 * beyond its header and tables until pieces are accessed.
+	 * 
+	 * @param file
+	 *            the file to open.
+	 * @param factory
+	 *            the factory to use for decoding the pieces.
+	 * @throws IOException
+	 *             if the file cannot be read or is not a valid cache file.
+	 */
+	public static SplitCache open(Path file, GeometryFactory factory)
+			throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file,
+				StandardOpenOption.READ)) {
+			long length = channel.size();
+			if (length > Integer.MAX_VALUE) {
+				throw new IOException("file too large: " + length);
+			}
+			// the mapping stays valid after the channel has been closed
+			MappedByteBuffer buffer = channel
+					.map(FileChannel.MapMode.READ_ONLY, 0, length);
+			return new SplitCache(buffer, factory);
+		}
+	}
+
+	/**
+	 * Open the cache file if it exists and has been created from the source
+	 * geometry with the specified parameters. Otherwise split the geometry
+	 * and replace the file with the result.
+	 * 
+	 * @throws IOException
+	 *             if the file cannot be written.
+	 * @throws SplitException
+	 *             if the geometry had to be split and a split step failed
+	 *             within the limits of the default policy.
+	 */
+	public static SplitCache load(Path file, Geometry source, int maxPoints,
+			SplitMode mode) throws IOException
+	{
+		byte[] hash = hash(source);
+		if (Files.exists(file)) {
+			try {
+				SplitCache cache = open(file, source.getFactory());
+				if (cache.isValidFor(hash, maxPoints, mode)) {
+					return cache;
+				}
+				logger.debug("cache file is outdated: {}", file);
+			} catch (IOException e) {
+				logger.debug("unable to open cache file: {}", file, e);
+			}
+		}
+		SplitTree tree = PolygonSplitUtil.splitTree(source, maxPoints, mode);
+		write(file, hash, maxPoints, mode, tree);
+		return open(file, source.getFactory());
+	}
+
+	/**
+	 * Write the pieces of a split tree to a cache file. The file is written
+	 * to a temporary file first and then moved to its final location, so that
+	 * other processes never map a partially written file.
+	 * 
+	 * @param file
+	 *            the file to write.
+	 * @param source
+	 *            the geometry the tree has been created from.
+	 * @param maxPoints
+	 *            the maximum number of points the tree has been created with.
+	 * @param mode
+	 *            the mode the tree has been created with.
+	 * @param tree
+	 *            the split tree to store.
+	 * @throws IOException
+	 *             if the file cannot be written or would exceed the 2 GB that
+	 *             can be mapped when opening it.
+	 */
+	public static void write(Path file, Geometry source, int maxPoints,
+			SplitMode mode, SplitTree tree) throws IOException
+	{
+		write(file, hash(source), maxPoints, mode, tree);
+	}
+
+	private static void write(Path file, byte[] hash, int maxPoints,
+			SplitMode mode, SplitTree tree) throws IOException
+	{
+		List<SplitTree.Node> leaves = tree.getLeaves();
+		WKBWriter writer = new WKBWriter();
+		List<byte[]> encoded = new ArrayList<>(leaves.size());
+		// the nodes in breadth-first order, so that siblings are adjacent
+		List<SplitTree.Node> nodes = new ArrayList<>();
+		nodes.add(tree.getRoot());
+		for (int i = 0; i < nodes.size(); i++) {
+			nodes.addAll(nodes.get(i).getChildren());
+		}
+
+		long total = HEADER_SIZE + (long) leaves.size() * ENTRY_SIZE
+				+ (long) nodes.size() * NODE_SIZE;
+		for (SplitTree.Node leaf : leaves) {
+			byte[] bytes = writer.write(leaf.getPiece());
+			encoded.add(bytes);
+			total += bytes.length;
+		}
+		// files are mapped using a single buffer when opened
+		if (total > Integer.MAX_VALUE) {
+			throw new IOException("cache file would be too large: " + total);
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE
+				+ leaves.size() * ENTRY_SIZE + nodes.size() * NODE_SIZE);
+		header.putInt(MAGIC);
+		header.putInt(VERSION);
+		header.put(hash);
+		header.putInt(maxPoints);
+		header.putInt(mode.ordinal());
+		header.putInt(leaves.size());
+		header.putInt(nodes.size());
+		long offset = header.capacity();
+		for (int i = 0; i < leaves.size(); i++) {
+			SplitTree.Node leaf = leaves.get(i);
+			int length = encoded.get(i).length;
+			header.putLong(offset);
+			header.putInt(length);
+			putEnvelope(header, leaf.getPiece().getEnvelopeInternal());
+			putEnvelope(header, leaf.getRegion());
+			offset += length;
+		}
+		int next = 1;
+		for (SplitTree.Node node : nodes) {
+			putEnvelope(header, node.getEnvelope());
+			header.putInt(node.getNumChildren());
+			if (node.isLeaf()) {
+				header.putInt(node.getIndex());
+			} else {
+				header.putInt(next);
+				next += node.getNumChildren();
+			}
+		}
+		header.flip();
+
+		// a unique temporary file, so that concurrent writers do not clash
+		Path directory = file.toAbsolutePath().getParent();
+		Path tmp = Files.createTempFile(directory,
+				file.getFileName().toString(), ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(tmp,
+					StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING)) {
+				writeFully(channel, header);
+				for (byte[] bytes : encoded) {
+					writeFully(channel, ByteBuffer.wrap(bytes));
+				}
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException | RuntimeException e) {
+			try {
+				Files.deleteIfExists(tmp);
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			throw e;
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer)
+			throws IOException
+	{
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private static void putEnvelope(ByteBuffer buffer, Envelope envelope)
+	{
+		if (envelope == null || envelope.isNull()) {
+			for (int i = 0; i < 4; i++) {
+				buffer.putDouble(Double.NaN);
+			}
+			return;
+		}
+		buffer.putDouble(envelope.getMinX());
+		buffer.putDouble(envelope.getMaxX());
+		buffer.putDouble(envelope.getMinY());
+		buffer.putDouble(envelope.getMaxY());
+	}
+
+	private Envelope readEnvelope(int position)
+	{
+		double minX = buffer.getDouble(position);
+		if (Double.isNaN(minX)) {
+			return null;
+		}
+		return new Envelope(minX, buffer.getDouble(position + 8),
+				buffer.getDouble(position + 16),
+				buffer.getDouble(position + 24));
+	}
+
+	private static int entry(int n)
+	{
+		return HEADER_SIZE + n * ENTRY_SIZE;
+	}
+
+	private int node(int n)
+	{
+		return HEADER_SIZE + size * ENTRY_SIZE + n * NODE_SIZE;
+	}
+
+	/**
+	 * Compute the SHA-256 hash of the WKB representation of a geometry.
+	 */
+	public static byte[] hash(Geometry geometry)
+	{
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+		try {
+			new WKBWriter().write(geometry,
+					(bytes, length) -> digest.update(bytes, 0, length));
+		} catch (IOException e) {
+			// the digest never throws
+			throw new IllegalStateException(e);
+		}
+		return digest.digest();
+	}
+
+	/**
+	 * @return whether this cache has been created from the specified source
+	 *         geometry with the specified parameters.
+	 */
+	public boolean isValidFor(Geometry source, int maxPoints, SplitMode mode)
+	{
+		return isValidFor(hash(source), maxPoints, mode);
+	}
+
+	/**
+	 * @return whether this cache has been created from a source geometry with
+	 *         the specified hash (see {@link #hash(Geometry)}) with the
+	 *         specified parameters.
+	 */
+	public boolean isValidFor(byte[] hash, int maxPoints, SplitMode mode)
+	{
+		return this.maxPoints == maxPoints && this.mode == mode
+				&& Arrays.equals(this.hash, hash);
+	}
+
+	public byte[] getHash()
+	{
+		return hash.clone();
+	}
+
+	public int getMaxPoints()
+	{
+		return maxPoints;
+	}
+
+	public SplitMode getMode()
+	{
+		return mode;
+	}
+
+	/**
+	 * @return the number of pieces.
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * @return the envelope of the n'th piece.
+	 */
+	public Envelope getEnvelope(int n)
+	{
+		return readEnvelope(entry(n) + 12);
+	}
+
+	/**
+	 * @return the region of the n'th piece or null if it has been cut with a
+	 *         rectangle that is not parallel to the axes.
+	 */
+	public Envelope getRegion(int n)
+	{
+		return readEnvelope(entry(n) + 44);
+	}
+
+	/**
+	 * @return the n'th piece, which is decoded on first access.
+	 */
+	public Geometry getPiece(int n)
+	{
+		Geometry piece = pieces.get(n);
+		if (piece == null) {
+			piece = decode(n);
+			if (!pieces.compareAndSet(n, null, piece)) {
+				piece = pieces.get(n);
+			}
+		}
+		return piece;
+	}
+
+	private Geometry decode(int n)
+	{
+		int offset = (int) buffer.getLong(entry(n));
+		int length = buffer.getInt(entry(n) + 8);
+		ByteBuffer data = buffer.duplicate();
+		data.position(offset);
+		data.limit(offset + length);
+		try {
+			return new WKBReader(factory).read(bytes -> {
+				int count = Math.min(bytes.length, data.remaining());
+				data.get(bytes, 0, count);
+				return count;
+			});
+		} catch (IOException | ParseException e) {
+			throw new IllegalStateException("unable to decode piece " + n, e);
+		}
+	}
+
+	/**
+	 * @return a view of all pieces that decodes them on access.
+	 */
+	public List<Geometry> getPieces()
+	{
+		return new AbstractList<Geometry>() {
+
+			@Override
+			public Geometry get(int index)
+			{
+				return getPiece(index);
+			}
+
+			@Override
+			public int size()
+			{
+				return size;
+			}
+
+		};
+	}
+
+	/**
+	 * Find the pieces whose envelopes intersect the specified envelope. Only
+	 * the pieces returned are decoded.
+	 */
+	public List<Geometry> query(Envelope envelope)
+	{
+		List<Geometry> results = new ArrayList<>();
+		query(envelope, results::add);
+		return results;
+	}
+
+	/**
+	 * Pass each piece whose envelope intersects the specified envelope to the
+	 * consumer, in the order of the pieces. Only the pieces passed are
+	 * decoded.
+	 */
+	public void query(Envelope envelope, Consumer<Geometry> consumer)
+	{
+		query(0, envelope, consumer);
+	}
+
+	private void query(int n, Envelope envelope, Consumer<Geometry> consumer)
+	{
+		int position = node(n);
+		// the envelope of empty pieces is NaN and never intersects
+		if (!(buffer.getDouble(position) <= envelope.getMaxX()
+				&& buffer.getDouble(position + 8) >= envelope.getMinX()
+				&& buffer.getDouble(position + 16) <= envelope.getMaxY()
+				&& buffer.getDouble(position + 24) >= envelope.getMinY())) {
+			return;
+		}
+		int children = buffer.getInt(position + 32);
+		int value = buffer.getInt(position + 36);
+		if (children == 0) {
+			if (value >= 0) {
+				consumer.accept(getPiece(value));
+			}
+			return;
+		}
+		for (int i = 0; i < children; i++) {
+			query(value + i, envelope, consumer);
+		}
+	}
+
+}
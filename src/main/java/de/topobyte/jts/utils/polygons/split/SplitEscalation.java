@@ -0,0 +1,44 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons.split;
+
+/**
+ * Escalation steps applied by a {@link SplitRetryPolicy} when splitting a
+ * geometry failed repeatedly. Steps are cumulative, i.e. each step is applied
+ * in addition to the steps before it.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public enum SplitEscalation {
+
+	/**
+	 * Compute intersections using OverlayNG, which falls back to snapping and
+	 * snap-rounding noders if the floating point noder fails.
+	 */
+	OVERLAY_NG,
+	/**
+	 * Reduce the precision of the geometry to a fixed precision model before
+	 * splitting.
+	 */
+	PRECISION_REDUCTION,
+	/**
+	 * Repair the geometry using buffer(0) before splitting.
+	 */
+	BUFFER_ZERO
+
+}
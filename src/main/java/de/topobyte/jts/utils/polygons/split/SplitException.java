@@ -0,0 +1,59 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons.split;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Thrown if a geometry could not be split within the limits of a
+ * {@link SplitRetryPolicy}.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class SplitException extends RuntimeException
+{
+
+	private static final long serialVersionUID = 3926407212964542741L;
+
+	private transient Geometry geometry;
+	private int attempts;
+
+	public SplitException(String message, Geometry geometry, int attempts)
+	{
+		super(message);
+		this.geometry = geometry;
+		this.attempts = attempts;
+	}
+
+	/**
+	 * @return the geometry that could not be split.
+	 */
+	public Geometry getGeometry()
+	{
+		return geometry;
+	}
+
+	/**
+	 * @return the number of attempts made.
+	 */
+	public int getAttempts()
+	{
+		return attempts;
+	}
+
+}
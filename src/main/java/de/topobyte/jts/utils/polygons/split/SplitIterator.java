@@ -0,0 +1,106 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons.split;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+
+import de.topobyte.jts.utils.select.OrdinateSelector;
+
+/**
+ * Lazily splits a geometry recursively and returns the pieces one at a time in
+ * the same order as {@link PolygonSplitUtil#split(Geometry, int, SplitMode)}.
+ * 
+ * Geometries that still need to be split are kept on an explicit stack. A
+ * geometry is removed from the stack before it is split, so that each
+ * geometry is referenced only until its parts have been computed. The number
+ * of geometries held at any time is therefore bounded by the depth of the
+ * recursion times the number of parts per split step rather than by the
+ * total number of pieces. All split steps share a single
+ * {@link OrdinateSelector}, so that its buffer is allocated once per iterator
+ * rather than once per step.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+class SplitIterator implements Iterator<Geometry>
+{
+
+	private final int maxPoints;
+	private final SplitMode mode;
+	private final SplitRetryPolicy policy;
+	private final OrdinateSelector selector = new OrdinateSelector();
+
+	private final Deque<Geometry> stack = new ArrayDeque<>();
+
+	SplitIterator(Geometry geometry, int maxPoints, SplitMode mode,
+			SplitRetryPolicy policy)
+	{
+		this.maxPoints = maxPoints;
+		this.mode = mode;
+		this.policy = policy;
+		stack.push(geometry);
+	}
+
+	/**
+	 * @throws SplitException
+	 *             if a split step failed within the limits of the policy.
+	 */
+	@Override
+	public boolean hasNext()
+	{
+		while (!stack.isEmpty()) {
+			Geometry geometry = stack.peek();
+			if (geometry.getNumPoints() <= maxPoints) {
+				return true;
+			}
+			stack.pop();
+			if (geometry instanceof GeometryCollection) {
+				for (int i = geometry.getNumGeometries() - 1; i >= 0; i--) {
+					stack.push(geometry.getGeometryN(i));
+				}
+			} else {
+				List<Geometry> parts = policy.split(geometry, mode, maxPoints,
+						PolygonSplitUtil.SEQUENTIAL, selector);
+				for (int i = parts.size() - 1; i >= 0; i--) {
+					stack.push(parts.get(i));
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @throws SplitException
+	 *             if a split step failed within the limits of the policy.
+	 */
+	@Override
+	public Geometry next()
+	{
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return stack.pop();
+	}
+
+}
@@ -22,6 +22,7 @@ public enum SplitMode {
 	PCA,
 	VERTICAL,
 	HORIZONTAL,
-	ALTERNATING
+	ALTERNATING,
+	COST
 
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons.split;
+
+/**
+ * Outcomes of a single split step as counted by {@link SplitRetryPolicy}.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public enum SplitOutcome {
+
+	/**
+	 * The first attempt succeeded.
+	 */
+	SUCCESS,
+	/**
+	 * An attempt with different split positions succeeded.
+	 */
+	RETRIED,
+	/**
+	 * An attempt succeeded after at least one escalation step.
+	 */
+	ESCALATED,
+	/**
+	 * All attempts failed or the time budget has been exceeded.
+	 */
+	FAILED
+
+}
@@ -0,0 +1,268 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons.split;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.precision.GeometryPrecisionReducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.topobyte.jts.utils.select.OrdinateSelector;
+
+/**
+ * Controls how often and how a single split step is retried when the
+ * intersection of the geometry with the split rectangles fails or is not
+ * polygonal.
+ * 
+ * Each stage, starting with the plain geometry and followed by the configured
+ * {@link SplitEscalation} steps, gets up to a maximum number of attempts with
+ * varying split positions. The split positions are varied using a random
+ * number generator that is created from a fixed seed for each split step if
+ * a seed has been specified, which makes splitting deterministic. If all
+ * stages fail or the time budget of a split step is exceeded, a
+ * {@link SplitException} is thrown.
+ * 
+ * Outcomes are counted per {@link SplitOutcome}. Instances are thread-safe
+ * and can be shared between splitters.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class SplitRetryPolicy
+{
+
+	final static Logger logger = LoggerFactory
+			.getLogger(SplitRetryPolicy.class);
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 32;
+
+	private static final int PRECISION_DIGITS = 10;
+
+	private final int maxAttempts;
+	private final long timeBudgetNanos;
+	private final Long seed;
+	private final SplitEscalation[] escalations;
+
+	private final LongAdder[] counters;
+
+	/**
+	 * Create a policy with {@link #DEFAULT_MAX_ATTEMPTS}, no time budget,
+	 * unseeded randomness and all escalation steps.
+	 */
+	public SplitRetryPolicy()
+	{
+		this(DEFAULT_MAX_ATTEMPTS, 0, null, SplitEscalation.values());
+	}
+
+	/**
+	 * @param maxAttempts
+	 *            the maximum number of attempts per stage.
+	 * @param timeBudgetMillis
+	 *            the maximum time to spend on a single split step including
+	 *            all stages or 0 for no limit.
+	 * @param seed
+	 *            the seed for varying split positions or null to use
+	 *            unseeded randomness.
+	 * @param escalations
+	 *            the escalation steps to apply, in order, after the attempts
+	 *            with the plain geometry failed.
+	 */
+	public SplitRetryPolicy(int maxAttempts, long timeBudgetMillis, Long seed,
+			SplitEscalation... escalations)
+	{
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+		this.seed = seed;
+		this.escalations = escalations.clone();
+		counters = new LongAdder[SplitOutcome.values().length];
+		for (int i = 0; i < counters.length; i++) {
+			counters[i] = new LongAdder();
+		}
+	}
+
+	public int getMaxAttempts()
+	{
+		return maxAttempts;
+	}
+
+	public long getTimeBudgetMillis()
+	{
+		return TimeUnit.NANOSECONDS.toMillis(timeBudgetNanos);
+	}
+
+	public Long getSeed()
+	{
+		return seed;
+	}
+
+	public SplitEscalation[] getEscalations()
+	{
+		return escalations.clone();
+	}
+
+	/**
+	 * @return the number of split steps that ended with the specified
+	 *         outcome.
+	 */
+	public long getCount(SplitOutcome outcome)
+	{
+		return counters[outcome.ordinal()].sum();
+	}
+
+	public void resetCounts()
+	{
+		for (LongAdder counter : counters) {
+			counter.reset();
+		}
+	}
+
+	private Random createRandom()
+	{
+		return seed == null ? new Random() : new Random(seed);
+	}
+
+	/**
+	 * Perform a single split step of the specified geometry.
+	 */
+	List<Geometry> split(Geometry geometry, SplitMode mode, int maxPoints,
+			RectangleIntersector intersector)
+	{
+		return split(geometry, mode, maxPoints, intersector,
+				new OrdinateSelector());
+	}
+
+	/**
+	 * Perform a single split step of the specified geometry using the
+	 * specified selector for determining split positions. The selector's
+	 * buffer is reused by all steps that share it, hence it must not be
+	 * shared between threads.
+	 */
+	List<Geometry> split(Geometry geometry, SplitMode mode, int maxPoints,
+			RectangleIntersector intersector, OrdinateSelector selector)
+	{
+		return split(geometry, mode, maxPoints, intersector, null, selector);
+	}
+
+	/**
+	 * Perform a single split step of the specified geometry and store the
+	 * rectangles that produced the returned parts in the specified list, if
+	 * not null.
+	 */
+	List<Geometry> split(Geometry geometry, SplitMode mode, int maxPoints,
+			RectangleIntersector intersector, List<Polygon> usedRectangles,
+			OrdinateSelector selector)
+	{
+		Random random = createRandom();
+		long start = System.nanoTime();
+
+		Geometry current = geometry;
+		boolean overlayNG = false;
+		int attempts = 0;
+
+		for (int stage = 0; stage <= escalations.length; stage++) {
+			if (stage > 0) {
+				SplitEscalation escalation = escalations[stage - 1];
+				logger.debug("Escalating split: {}", escalation);
+				try {
+					switch (escalation) {
+					case OVERLAY_NG:
+						overlayNG = true;
+						break;
+					case PRECISION_REDUCTION:
+						current = reducePrecision(current);
+						break;
+					case BUFFER_ZERO:
+						current = current.buffer(0);
+						break;
+					}
+				} catch (TopologyException | IllegalArgumentException e) {
+					logger.debug("Escalation failed: {}", e.getMessage());
+					continue;
+				}
+			}
+
+			RectangleGenerator rg = PolygonSplitUtil.createRectangleGenerator(
+					current, mode, maxPoints, random, selector);
+			for (int i = 0; i < maxAttempts; i++) {
+				if (timeBudgetNanos > 0
+						&& System.nanoTime() - start > timeBudgetNanos) {
+					return fail(geometry, attempts, "time budget exceeded");
+				}
+				attempts++;
+				List<Polygon> rectangles = rg.createRectangles();
+				List<Geometry> results = intersector.intersect(current,
+						rectangles, rg.isSlabs(), overlayNG);
+				if (results != null) {
+					if (usedRectangles != null) {
+						usedRectangles.addAll(rectangles);
+					}
+					SplitOutcome outcome;
+					if (stage > 0) {
+						outcome = SplitOutcome.ESCALATED;
+					} else if (attempts > 1) {
+						outcome = SplitOutcome.RETRIED;
+					} else {
+						outcome = SplitOutcome.SUCCESS;
+					}
+					counters[outcome.ordinal()].increment();
+					return results;
+				}
+			}
+		}
+		return fail(geometry, attempts, "all attempts failed");
+	}
+
+	private List<Geometry> fail(Geometry geometry, int attempts,
+			String reason)
+	{
+		counters[SplitOutcome.FAILED.ordinal()].increment();
+		String message = String.format(
+				"Unable to split geometry after %d attempts: %s", attempts,
+				reason);
+		logger.warn(message);
+		throw new SplitException(message, geometry, attempts);
+	}
+
+	/**
+	 * Reduce the precision to a fixed number of significant digits relative
+	 * to the largest absolute ordinate of the geometry.
+	 */
+	private static Geometry reducePrecision(Geometry geometry)
+	{
+		Envelope e = geometry.getEnvelopeInternal();
+		double max = Math.max(Math.max(Math.abs(e.getMinX()),
+				Math.abs(e.getMaxX())), Math.max(Math.abs(e.getMinY()),
+				Math.abs(e.getMaxY())));
+		double scale = 1;
+		if (max > 0) {
+			int digits = PRECISION_DIGITS - (int) Math.ceil(Math.log10(max));
+			scale = Math.pow(10, digits);
+		}
+		return GeometryPrecisionReducer.reduce(geometry,
+				new PrecisionModel(scale));
+	}
+
+}
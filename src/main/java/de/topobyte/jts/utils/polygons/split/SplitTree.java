@@ -0,0 +1,318 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.polygons.split;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * The result of recursively splitting a geometry that keeps the structure of
+ * the recursion. Each inner node represents a geometry that has been split and
+ * has the parts it has been split into as children, each leaf holds one of
+ * the resulting pieces. Nodes are bounded by the envelope of their geometry,
+ * which lies within the split rectangle it has been cut with, so that the
+ * tree can be used as a spatial index over the pieces.
+ * 
+ * If a geometry has been split with rectangles parallel to the axes, each node
+ * also knows its region, which is the part of the envelope of the split
+ * geometry that has been assigned to the node by the split rectangles. The
+ * regions of the children of a split node do not overlap except for their
+ * boundaries and together cover the part of the region of their parent that
+ * contains the geometry of the parent. Each piece is the intersection of the
+ * split geometry with the region of its leaf.
+ * 
+ * Leaves are numbered in the order in which {@link #getPieces()} returns the
+ * pieces, which is the order produced by
+ * {@link PolygonSplitUtil#split(Geometry, int, SplitMode)} except for empty
+ * pieces. Empty pieces are kept as leaves without a number, so that the
+ * regions of the children of each split node are complete, but they are not
+ * part of {@link #getPieces()} and {@link #getLeaves()} and are never
+ * returned by queries.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class SplitTree
+{
+
+	/**
+	 * A node of the split tree.
+	 */
+	public static class Node
+	{
+
+		private final Envelope envelope;
+		private final Envelope region;
+		private final boolean partition;
+		private final boolean interior;
+		private final Node[] children;
+		private final Geometry piece;
+		private final int index;
+
+		Node(Envelope envelope, Envelope region, boolean partition,
+				Node[] children)
+		{
+			this.envelope = envelope;
+			this.region = region;
+			this.partition = partition;
+			this.children = children;
+			piece = null;
+			index = -1;
+			interior = region != null && children.length > 0
+					&& (partition ? allInterior(children)
+							: anyInterior(children));
+		}
+
+		Node(Geometry piece, int index, Envelope region)
+		{
+			this.piece = piece;
+			this.index = index;
+			this.region = region;
+			envelope = piece.getEnvelopeInternal();
+			partition = false;
+			children = null;
+			interior = region != null && piece.isRectangle()
+					&& envelope.equals(region);
+		}
+
+		private static boolean allInterior(Node[] nodes)
+		{
+			for (Node node : nodes) {
+				if (!node.interior) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean anyInterior(Node[] nodes)
+		{
+			for (Node node : nodes) {
+				if (node.interior) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		public Envelope getEnvelope()
+		{
+			return envelope;
+		}
+
+		/**
+		 * @return the region of this node or null if it is unknown because
+		 *         the node has been created using rectangles that are not
+		 *         parallel to the axes.
+		 */
+		public Envelope getRegion()
+		{
+			return region;
+		}
+
+		/**
+		 * @return whether the regions of the children partition the part of
+		 *         the region of this node that contains its geometry, which is
+		 *         the case for nodes that have been split with rectangles. The
+		 *         children of other inner nodes are the components of a
+		 *         geometry collection and share the region of their parent.
+		 */
+		public boolean isPartition()
+		{
+			return partition;
+		}
+
+		/**
+		 * @return whether the region of this node is known to lie within the
+		 *         split geometry entirely.
+		 */
+		public boolean isInterior()
+		{
+			return interior;
+		}
+
+		public boolean isLeaf()
+		{
+			return children == null;
+		}
+
+		/**
+		 * @return the number of child nodes, 0 for leaves.
+		 */
+		public int getNumChildren()
+		{
+			return children == null ? 0 : children.length;
+		}
+
+		public Node getChild(int n)
+		{
+			return children[n];
+		}
+
+		/**
+		 * @return the child nodes, empty for leaves.
+		 */
+		public List<Node> getChildren()
+		{
+			if (children == null) {
+				return Collections.emptyList();
+			}
+			return Collections.unmodifiableList(Arrays.asList(children));
+		}
+
+		/**
+		 * @return the piece of a leaf or null for inner nodes.
+		 */
+		public Geometry getPiece()
+		{
+			return piece;
+		}
+
+		/**
+		 * @return the index of the piece of a leaf, -1 for inner nodes and
+		 *         leaves with an empty piece.
+		 */
+		public int getIndex()
+		{
+			return index;
+		}
+
+	}
+
+	private final Node root;
+	private final List<Geometry> pieces;
+	private final List<Node> leaves;
+
+	SplitTree(Node root, List<Node> leaves)
+	{
+		this.root = root;
+		this.leaves = Collections.unmodifiableList(leaves);
+		List<Geometry> pieces = new ArrayList<>(leaves.size());
+		for (Node leaf : leaves) {
+			pieces.add(leaf.piece);
+		}
+		this.pieces = Collections.unmodifiableList(pieces);
+	}
+
+	public Node getRoot()
+	{
+		return root;
+	}
+
+	/**
+	 * @return the envelope of the split geometry.
+	 */
+	public Envelope getEnvelope()
+	{
+		return root.envelope;
+	}
+
+	/**
+	 * @return the number of pieces.
+	 */
+	public int size()
+	{
+		return pieces.size();
+	}
+
+	public List<Geometry> getPieces()
+	{
+		return pieces;
+	}
+
+	public List<Node> getLeaves()
+	{
+		return leaves;
+	}
+
+	/**
+	 * @return the number of levels of the tree.
+	 */
+	public int getDepth()
+	{
+		return depth(root);
+	}
+
+	private static int depth(Node node)
+	{
+		int depth = 0;
+		if (node.children != null) {
+			for (Node child : node.children) {
+				depth = Math.max(depth, depth(child));
+			}
+		}
+		return depth + 1;
+	}
+
+	/**
+	 * Find the pieces whose envelope intersects the specified envelope.
+	 */
+	public List<Geometry> query(Envelope envelope)
+	{
+		List<Geometry> results = new ArrayList<>();
+		query(envelope, leaf -> results.add(leaf.piece));
+		return results;
+	}
+
+	/**
+	 * Visit the leaves whose envelope intersects the specified envelope, in
+	 * leaf order.
+	 */
+	public void query(Envelope envelope, Consumer<Node> consumer)
+	{
+		anyMatch(envelope, leaf -> {
+			consumer.accept(leaf);
+			return false;
+		});
+	}
+
+	/**
+	 * Test the leaves whose envelope intersects the specified envelope, in
+	 * leaf order, until the predicate is satisfied for one of them.
+	 * 
+	 * @return whether the predicate has been satisfied for any of the leaves.
+	 */
+	public boolean anyMatch(Envelope envelope, Predicate<Node> predicate)
+	{
+		return anyMatch(root, envelope, predicate);
+	}
+
+	private static boolean anyMatch(Node node, Envelope envelope,
+			Predicate<Node> predicate)
+	{
+		if (!node.envelope.intersects(envelope)) {
+			return false;
+		}
+		if (node.children == null) {
+			return predicate.test(node);
+		}
+		for (Node child : node.children) {
+			if (anyMatch(child, envelope, predicate)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
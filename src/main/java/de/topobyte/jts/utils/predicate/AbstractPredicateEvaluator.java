@@ -17,8 +17,15 @@
 
 package de.topobyte.jts.utils.predicate;
 
+import java.util.BitSet;
+
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryComponentFilter;
+import org.locationtech.jts.geom.Location;
 
 public abstract class AbstractPredicateEvaluator implements PredicateEvaluator
 {
@@ -89,4 +96,64 @@ public abstract class AbstractPredicateEvaluator implements PredicateEvaluator
 		return false;
 	}
 
+	/**
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths.
+	 */
+	protected static void checkLengths(double[] xs, double[] ys)
+	{
+		if (xs.length != ys.length) {
+			throw new IllegalArgumentException(
+					"xs and ys must have the same length");
+		}
+	}
+
+	/**
+	 * Locate each point (xs[i], ys[i]) using the specified locator. Sets bit i
+	 * of the result if the point is located in the interior or, if boundary is
+	 * true, on the boundary.
+	 */
+	protected static void locate(PointOnGeometryLocator locator, double[] xs,
+			double[] ys, BitSet result, boolean boundary)
+	{
+		checkLengths(xs, ys);
+		Coordinate coordinate = new Coordinate();
+		for (int i = 0; i < xs.length; i++) {
+			coordinate.x = xs[i];
+			coordinate.y = ys[i];
+			result.set(i, matches(locator.locate(coordinate), boundary));
+		}
+	}
+
+	/**
+	 * Locate each point of the sequence using the specified locator. Sets bit
+	 * i of the result if the i'th point is located in the interior or, if
+	 * boundary is true, on the boundary.
+	 */
+	protected static void locate(PointOnGeometryLocator locator,
+			CoordinateSequence coordinates, BitSet result, boolean boundary)
+	{
+		Coordinate coordinate = new Coordinate();
+		for (int i = 0; i < coordinates.size(); i++) {
+			coordinate.x = coordinates.getX(i);
+			coordinate.y = coordinates.getY(i);
+			result.set(i, matches(locator.locate(coordinate), boundary));
+		}
+	}
+
+	/**
+	 * Compute the cached envelopes of the geometry and all of its components,
+	 * so that they are not computed lazily by concurrent readers later on.
+	 */
+	protected static void computeEnvelopes(Geometry geometry)
+	{
+		geometry.apply((GeometryComponentFilter) g -> g.getEnvelopeInternal());
+	}
+
+	private static boolean matches(int location, boolean boundary)
+	{
+		return location == Location.INTERIOR
+				|| (boundary && location == Location.BOUNDARY);
+	}
+
 }
@@ -0,0 +1,289 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.predicate;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedPolygon;
+
+/**
+ * Tiered evaluation of envelope predicates. Queries are first tested against
+ * the bounding box of the geometry. For polygonal geometries, a
+ * {@link GeometryGrid} is used as a second tier: envelopes that lie
+ * completely within inner cells are covered, envelopes that lie completely
+ * within outer cells are disjoint. Summed-area tables over the cell
+ * classification make this test constant-time for envelopes of any size.
+ * Queries that can not be decided by either tier have to be answered
+ * exactly by the caller.
+ * 
+ * The number of queries decided by each tier is recorded.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class EnvelopeTiers
+{
+
+	public static final int DEFAULT_RESOLUTION = 64;
+
+	/**
+	 * Result: the predicate is false.
+	 */
+	public static final int NO = 0;
+	/**
+	 * Result: the predicate is true.
+	 */
+	public static final int YES = 1;
+	/**
+	 * Result: the predicate could not be decided.
+	 */
+	public static final int UNDECIDED = 2;
+
+	private final Envelope bounds;
+	private final GeometryGrid grid;
+	private final int nx, ny;
+	private final int[] inside;
+	private final int[] outside;
+	private final double tolX, tolY;
+
+	private final LongAdder countBoundingBox = new LongAdder();
+	private final LongAdder countGrid = new LongAdder();
+	private final LongAdder countUndecided = new LongAdder();
+
+	/**
+	 * Create tiers for the specified geometry. A grid is only created for
+	 * non-empty polygonal geometries.
+	 */
+	public EnvelopeTiers(Geometry geometry, int resolution)
+	{
+		this(geometry.getEnvelopeInternal(), createGrid(geometry,
+				resolution));
+	}
+
+	/**
+	 * Create tiers for the specified prepared geometry. A grid is only created
+	 * for non-empty polygonal geometries.
+	 */
+	public EnvelopeTiers(PreparedGeometry geometry, int resolution)
+	{
+		this(geometry.getGeometry().getEnvelopeInternal(),
+				createGrid(geometry, resolution));
+	}
+
+	/**
+	 * @param bounds
+	 *            the envelope of the geometry.
+	 * @param grid
+	 *            the grid of the geometry, may be null.
+	 */
+	public EnvelopeTiers(Envelope bounds, GeometryGrid grid)
+	{
+		this.bounds = bounds;
+		this.grid = grid;
+		if (grid == null) {
+			nx = ny = 0;
+			inside = outside = null;
+			tolX = tolY = 0;
+			return;
+		}
+
+		nx = grid.getNumberOfColumns();
+		ny = grid.getNumberOfRows();
+		tolX = grid.getCellWidth() * 1e-9;
+		tolY = grid.getCellHeight() * 1e-9;
+
+		// summed-area tables, the entry at (c, r) holds the number of cells
+		// of the respective class within columns [0, c) and rows [0, r)
+		inside = new int[(nx + 1) * (ny + 1)];
+		outside = new int[(nx + 1) * (ny + 1)];
+		for (int r = 0; r < ny; r++) {
+			for (int c = 0; c < nx; c++) {
+				byte cell = grid.get(c, r);
+				int i = (r + 1) * (nx + 1) + c + 1;
+				int left = (r + 1) * (nx + 1) + c;
+				int below = r * (nx + 1) + c + 1;
+				int diagonal = r * (nx + 1) + c;
+				inside[i] = inside[left] + inside[below] - inside[diagonal]
+						+ (cell == GeometryGrid.INSIDE ? 1 : 0);
+				outside[i] = outside[left] + outside[below] - outside[diagonal]
+						+ (cell == GeometryGrid.OUTSIDE ? 1 : 0);
+			}
+		}
+	}
+
+	private static GeometryGrid createGrid(Geometry geometry, int resolution)
+	{
+		if (!(geometry instanceof Polygonal) || geometry.isEmpty()) {
+			return null;
+		}
+		PointOnGeometryLocator locator = new IndexedPointInAreaLocator(
+				geometry);
+		return new GeometryGrid(geometry, locator, resolution);
+	}
+
+	private static GeometryGrid createGrid(PreparedGeometry prepared,
+			int resolution)
+	{
+		if (!(prepared instanceof PreparedPolygon)) {
+			return createGrid(prepared.getGeometry(), resolution);
+		}
+		Geometry geometry = prepared.getGeometry();
+		if (geometry.isEmpty()) {
+			return null;
+		}
+		PointOnGeometryLocator locator = ((PreparedPolygon) prepared)
+				.getPointLocator();
+		return new GeometryGrid(geometry, locator, resolution);
+	}
+
+	/**
+	 * @return the number of queries decided by the bounding box.
+	 */
+	public long getCountBoundingBox()
+	{
+		return countBoundingBox.sum();
+	}
+
+	/**
+	 * @return the number of queries decided by the grid.
+	 */
+	public long getCountGrid()
+	{
+		return countGrid.sum();
+	}
+
+	/**
+	 * @return the number of queries that had to be evaluated exactly.
+	 */
+	public long getCountUndecided()
+	{
+		return countUndecided.sum();
+	}
+
+	/**
+	 * Test whether the envelope intersects the geometry.
+	 * 
+	 * @return one of {@link #NO}, {@link #YES} or {@link #UNDECIDED}.
+	 */
+	public int intersects(Envelope envelope)
+	{
+		if (!bounds.intersects(envelope)) {
+			countBoundingBox.increment();
+			return NO;
+		}
+		if (grid != null) {
+			if (all(outside, envelope)) {
+				countGrid.increment();
+				return NO;
+			}
+			if (any(inside, envelope)) {
+				countGrid.increment();
+				return YES;
+			}
+		}
+		countUndecided.increment();
+		return UNDECIDED;
+	}
+
+	/**
+	 * Test whether the envelope is covered by the geometry.
+	 * 
+	 * @return one of {@link #NO}, {@link #YES} or {@link #UNDECIDED}.
+	 */
+	public int covers(Envelope envelope)
+	{
+		if (!bounds.covers(envelope)) {
+			countBoundingBox.increment();
+			return NO;
+		}
+		if (grid != null) {
+			if (all(inside, envelope)) {
+				countGrid.increment();
+				return YES;
+			}
+			if (any(outside, envelope)) {
+				countGrid.increment();
+				return NO;
+			}
+		}
+		countUndecided.increment();
+		return UNDECIDED;
+	}
+
+	/**
+	 * Test whether the envelope is contained in the geometry. Envelopes
+	 * covered by inner cells are also contained since inner cells do not touch
+	 * the boundary of the geometry.
+	 * 
+	 * @return one of {@link #NO}, {@link #YES} or {@link #UNDECIDED}.
+	 */
+	public int contains(Envelope envelope)
+	{
+		return covers(envelope);
+	}
+
+	/**
+	 * Test whether all cells the envelope possibly touches are counted in the
+	 * specified table. The envelope must intersect the bounds.
+	 */
+	private boolean all(int[] table, Envelope envelope)
+	{
+		int c0 = grid.column(envelope.getMinX() - tolX);
+		int c1 = grid.column(envelope.getMaxX() + tolX);
+		int r0 = grid.row(envelope.getMinY() - tolY);
+		int r1 = grid.row(envelope.getMaxY() + tolY);
+		int cells = (c1 - c0 + 1) * (r1 - r0 + 1);
+		if (table == inside && !bounds.covers(envelope)) {
+			return false;
+		}
+		return sum(table, c0, c1, r0, r1) == cells;
+	}
+
+	/**
+	 * Test whether any cell the envelope definitely intersects is counted in
+	 * the specified table. The envelope must intersect the bounds.
+	 */
+	private boolean any(int[] table, Envelope envelope)
+	{
+		double minX = Math.max(envelope.getMinX(), bounds.getMinX()) + tolX;
+		double maxX = Math.min(envelope.getMaxX(), bounds.getMaxX()) - tolX;
+		double minY = Math.max(envelope.getMinY(), bounds.getMinY()) + tolY;
+		double maxY = Math.min(envelope.getMaxY(), bounds.getMaxY()) - tolY;
+		if (minX > maxX || minY > maxY) {
+			return false;
+		}
+		int c0 = grid.column(minX);
+		int c1 = grid.column(maxX);
+		int r0 = grid.row(minY);
+		int r1 = grid.row(maxY);
+		return sum(table, c0, c1, r0, r1) > 0;
+	}
+
+	private int sum(int[] table, int c0, int c1, int r0, int r1)
+	{
+		int w = nx + 1;
+		return table[(r1 + 1) * w + c1 + 1] - table[(r1 + 1) * w + c0]
+				- table[r0 * w + c1 + 1] + table[r0 * w + c0];
+	}
+
+}
@@ -0,0 +1,296 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.predicate;
+
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygonal;
+
+/**
+ * A uniform grid laid over the envelope of a polygonal geometry. Each cell of
+ * the grid is classified as lying completely inside the geometry, completely
+ * outside of it, or intersecting its boundary. Cells are closed, i.e. no point
+ * of an inner cell including its boundary lies on the boundary or outside of
+ * the geometry.
+ * 
+ * Instances are immutable after construction.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class GeometryGrid
+{
+
+	public static final byte OUTSIDE = 0;
+	public static final byte INSIDE = 1;
+	public static final byte BOUNDARY = 2;
+
+	private final PointOnGeometryLocator locator;
+
+	private final double minX, minY, maxX, maxY;
+	private final int nx, ny;
+	private final double cellWidth, cellHeight;
+	private final byte[] cells;
+
+	/**
+	 * @param geometry
+	 *            a polygonal geometry.
+	 * @param locator
+	 *            a locator for points in the geometry.
+	 * @param resolution
+	 *            the number of cells along the longer side of the envelope of
+	 *            the geometry.
+	 */
+	public GeometryGrid(Geometry geometry, PointOnGeometryLocator locator,
+			int resolution)
+	{
+		if (!(geometry instanceof Polygonal)) {
+			throw new IllegalArgumentException(
+					"grid only accepts Polygonal arguments");
+		}
+		if (resolution < 1) {
+			throw new IllegalArgumentException(
+					"'resolution' must be >= 1, currently is: '" + resolution
+							+ "'");
+		}
+
+		this.locator = locator;
+
+		Envelope envelope = geometry.getEnvelopeInternal();
+		minX = envelope.getMinX();
+		minY = envelope.getMinY();
+		maxX = envelope.getMaxX();
+		maxY = envelope.getMaxY();
+
+		double width = envelope.getWidth();
+		double height = envelope.getHeight();
+		double size = Math.max(width, height);
+		nx = size == 0 ? 1
+				: Math.max(1, (int) Math.ceil(resolution * width / size));
+		ny = size == 0 ? 1
+				: Math.max(1, (int) Math.ceil(resolution * height / size));
+		cellWidth = width == 0 ? 1 : width / nx;
+		cellHeight = height == 0 ? 1 : height / ny;
+
+		cells = new byte[nx * ny];
+		if (!geometry.isEmpty()) {
+			geometry.apply(new BoundaryMarker());
+			classify();
+		}
+	}
+
+	public int getNumberOfColumns()
+	{
+		return nx;
+	}
+
+	public int getNumberOfRows()
+	{
+		return ny;
+	}
+
+	public double getCellWidth()
+	{
+		return cellWidth;
+	}
+
+	public double getCellHeight()
+	{
+		return cellHeight;
+	}
+
+	/**
+	 * @return the column of the cell containing the specified x value, clamped
+	 *         to the grid.
+	 */
+	public int column(double x)
+	{
+		int c = (int) Math.floor((x - minX) / cellWidth);
+		return c < 0 ? 0 : c >= nx ? nx - 1 : c;
+	}
+
+	/**
+	 * @return the row of the cell containing the specified y value, clamped to
+	 *         the grid.
+	 */
+	public int row(double y)
+	{
+		int r = (int) Math.floor((y - minY) / cellHeight);
+		return r < 0 ? 0 : r >= ny ? ny - 1 : r;
+	}
+
+	/**
+	 * @return the classification of the cell at the specified column and row.
+	 */
+	public byte get(int column, int row)
+	{
+		return cells[row * nx + column];
+	}
+
+	/**
+	 * Determine the location of the point (x, y) with respect to the geometry.
+	 * Only points within boundary cells are located using the locator.
+	 * 
+	 * @param buffer
+	 *            a coordinate used to pass the point to the locator.
+	 * @return one of the constants of {@link Location}.
+	 */
+	public int locate(double x, double y, Coordinate buffer)
+	{
+		int location = locateCell(x, y);
+		if (location != Location.NONE) {
+			return location;
+		}
+		buffer.x = x;
+		buffer.y = y;
+		return locator.locate(buffer);
+	}
+
+	/**
+	 * Determine the location of the coordinate with respect to the geometry.
+	 * Only coordinates within boundary cells are located using the locator.
+	 * 
+	 * @return one of the constants of {@link Location}.
+	 */
+	public int locate(Coordinate coordinate)
+	{
+		int location = locateCell(coordinate.x, coordinate.y);
+		if (location != Location.NONE) {
+			return location;
+		}
+		return locator.locate(coordinate);
+	}
+
+	/**
+	 * @return the location of the point as determined by its cell or
+	 *         {@link Location#NONE} if the point lies within a boundary cell.
+	 */
+	private int locateCell(double x, double y)
+	{
+		// written as a negation so that NaN ordinates are rejected as well
+		if (!(x >= minX && x <= maxX && y >= minY && y <= maxY)) {
+			return Location.EXTERIOR;
+		}
+		byte cell = cells[row(y) * nx + column(x)];
+		if (cell == INSIDE) {
+			return Location.INTERIOR;
+		} else if (cell == OUTSIDE) {
+			return Location.EXTERIOR;
+		}
+		return Location.NONE;
+	}
+
+	/**
+	 * Marks all cells touched by any segment of the geometry's boundary. A
+	 * small tolerance is added to each segment so that rounding errors cannot
+	 * cause a touched cell to be missed.
+	 */
+	private class BoundaryMarker implements CoordinateSequenceFilter
+	{
+
+		private double tolX = cellWidth * 1e-9;
+		private double tolY = cellHeight * 1e-9;
+
+		@Override
+		public void filter(CoordinateSequence seq, int i)
+		{
+			if (i == 0) {
+				return;
+			}
+			double x0 = seq.getX(i - 1);
+			double y0 = seq.getY(i - 1);
+			double x1 = seq.getX(i);
+			double y1 = seq.getY(i);
+			double sMinX = Math.min(x0, x1);
+			double sMaxX = Math.max(x0, x1);
+
+			int c0 = column(sMinX - tolX);
+			int c1 = column(sMaxX + tolX);
+			for (int c = c0; c <= c1; c++) {
+				double ya, yb;
+				if (x0 == x1 || c0 == c1) {
+					ya = y0;
+					yb = y1;
+				} else {
+					double xa = Math.max(sMinX, minX + c * cellWidth);
+					double xb = Math.min(sMaxX, minX + (c + 1) * cellWidth);
+					double slope = (y1 - y0) / (x1 - x0);
+					ya = y0 + (xa - x0) * slope;
+					yb = y0 + (xb - x0) * slope;
+				}
+				int r0 = row(Math.min(ya, yb) - tolY);
+				int r1 = row(Math.max(ya, yb) + tolY);
+				for (int r = r0; r <= r1; r++) {
+					cells[r * nx + c] = BOUNDARY;
+				}
+			}
+		}
+
+		@Override
+		public boolean isDone()
+		{
+			return false;
+		}
+
+		@Override
+		public boolean isGeometryChanged()
+		{
+			return false;
+		}
+
+	}
+
+	/**
+	 * Classify non-boundary cells. Consecutive non-boundary cells within a row
+	 * are not separated by the boundary, hence only the first cell of each
+	 * such run needs to be located.
+	 */
+	private void classify()
+	{
+		Coordinate center = new Coordinate();
+		for (int r = 0; r < ny; r++) {
+			byte current = BOUNDARY;
+			for (int c = 0; c < nx; c++) {
+				int index = r * nx + c;
+				if (cells[index] == BOUNDARY) {
+					current = BOUNDARY;
+					continue;
+				}
+				if (current == BOUNDARY) {
+					center.x = minX + (c + 0.5) * cellWidth;
+					center.y = minY + (r + 0.5) * cellHeight;
+					int location = locator.locate(center);
+					if (location == Location.INTERIOR) {
+						current = INSIDE;
+					} else if (location == Location.EXTERIOR) {
+						current = OUTSIDE;
+					} else {
+						cells[index] = BOUNDARY;
+						continue;
+					}
+				}
+				cells[index] = current;
+			}
+		}
+	}
+
+}
@@ -17,11 +17,28 @@
 
 package de.topobyte.jts.utils.predicate;
 
+import java.util.BitSet;
+
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Point;
 
+/**
+ * Evaluates spatial predicates against a fixed geometry.
+ * 
+ * The implementations in this package are safe for concurrent use by multiple
+ * threads once constructed: their state is either immutable or, if created
+ * lazily, safely published. Indexes of prepared geometries are built on first
+ * use by whichever thread needs them first. Evaluators that are to be shared
+ * by a pool of threads should be initialized eagerly, using
+ * {@link PredicateEvaluatorPrepared#initialize()} or the respective factory
+ * option, so that no worker pays for or contends on their creation.
+ * 
+ * The geometries passed to an evaluator must not be modified while it is in
+ * use.
+ */
 public interface PredicateEvaluator
 {
 
@@ -75,4 +92,79 @@ public interface PredicateEvaluator
 	 */
 	public boolean intersects(Envelope envelope);
 
+	/**
+	 * Test for coverage of each point (xs[i], ys[i]). Sets bit i of the result
+	 * if the point is covered and clears it otherwise. Includes the boundary
+	 * of geometric objects.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if xs and ys have different lengths.
+	 */
+	public default void covers(double[] xs, double[] ys, BitSet result)
+	{
+		if (xs.length != ys.length) {
+			throw new IllegalArgumentException(
+					"xs and ys must have the same length");
+		}
+		Coordinate coordinate = new Coordinate();
+		for (int i = 0; i < xs.length; i++) {
+			coordinate.x = xs[i];
+			coordinate.y = ys[i];
+			result.set(i, covers(coordinate));
+		}
+	}
+
+	/**
+	 * Test for containment of each point (xs[i], ys[i]). Sets bit i of the
+	 * result if the point is contained and clears it otherwise. Excludes the
+	 * boundary of geometric objects.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if xs and ys have different lengths.
+	 */
+	public default void contains(double[] xs, double[] ys, BitSet result)
+	{
+		if (xs.length != ys.length) {
+			throw new IllegalArgumentException(
+					"xs and ys must have the same length");
+		}
+		Coordinate coordinate = new Coordinate();
+		for (int i = 0; i < xs.length; i++) {
+			coordinate.x = xs[i];
+			coordinate.y = ys[i];
+			result.set(i, contains(coordinate));
+		}
+	}
+
+	/**
+	 * Test for coverage of each point of the sequence. Sets bit i of the result
+	 * if the i'th point is covered and clears it otherwise. Includes the
+	 * boundary of geometric objects.
+	 */
+	public default void covers(CoordinateSequence coordinates, BitSet result)
+	{
+		Coordinate coordinate = new Coordinate();
+		for (int i = 0; i < coordinates.size(); i++) {
+			coordinate.x = coordinates.getX(i);
+			coordinate.y = coordinates.getY(i);
+			result.set(i, covers(coordinate));
+		}
+	}
+
+	/**
+	 * Test for containment of each point of the sequence. Sets bit i of the
+	 * result if the i'th point is contained and clears it otherwise. Excludes
+	 * the boundary of geometric objects.
+	 */
+	public default void contains(CoordinateSequence coordinates,
+			BitSet result)
+	{
+		Coordinate coordinate = new Coordinate();
+		for (int i = 0; i < coordinates.size(); i++) {
+			coordinate.x = coordinates.getX(i);
+			coordinate.y = coordinates.getY(i);
+			result.set(i, contains(coordinate));
+		}
+	}
+
 }
@@ -0,0 +1,289 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.predicate;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.ToLongFunction;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A factory that caches the evaluators created by another factory. By
+ * default, geometries are identified by object identity, alternatively
+ * callers can supply their own keys using
+ * {@link #createPredicateEvaluator(Object, Geometry)}.
+ * 
+ * The cache is bounded by the total weight of the cached geometries, which by
+ * default is their number of points. When the bound is exceeded, the least
+ * recently used evaluators are evicted. Geometries that are heavier than the
+ * bound on their own are never cached.
+ * 
+ * Instances are safe for use by multiple threads. The delegate is invoked
+ * outside of any lock, so that slow preparations do not block lookups of
+ * other geometries. Concurrent requests for a key whose evaluator is being
+ * created wait for that evaluator instead of creating their own. The
+ * evaluators created by the delegate will be handed to multiple callers and
+ * hence should be safe for concurrent use as well.
+ */
+public class PredicateEvaluatorFactoryCaching
+		implements PredicateEvaluatorFactory
+{
+
+	private final PredicateEvaluatorFactory delegate;
+	private final long maxWeight;
+	private final ToLongFunction<Geometry> weigher;
+
+	private final LinkedHashMap<Object, Entry> cache = new LinkedHashMap<>(16,
+			0.75f, true);
+	private final Map<Object, CompletableFuture<PredicateEvaluator>> pending =
+			new HashMap<>();
+	private long weight = 0;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	private static class Entry
+	{
+
+		final PredicateEvaluator evaluator;
+		final long weight;
+
+		Entry(PredicateEvaluator evaluator, long weight)
+		{
+			this.evaluator = evaluator;
+			this.weight = weight;
+		}
+
+	}
+
+	/**
+	 * Wraps a geometry so that it is compared by identity.
+	 */
+	private static class IdentityKey
+	{
+
+		private final Geometry geometry;
+
+		IdentityKey(Geometry geometry)
+		{
+			this.geometry = geometry;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return System.identityHashCode(geometry);
+		}
+
+		@Override
+		public boolean equals(Object other)
+		{
+			return other instanceof IdentityKey
+					&& ((IdentityKey) other).geometry == geometry;
+		}
+
+	}
+
+	/**
+	 * Create a cache bounded by the total number of points of the cached
+	 * geometries.
+	 * 
+	 * @param delegate
+	 *            the factory to create evaluators with.
+	 * @param maxWeight
+	 *            the maximum total number of points of cached geometries.
+	 */
+	public PredicateEvaluatorFactoryCaching(PredicateEvaluatorFactory delegate,
+			long maxWeight)
+	{
+		this(delegate, maxWeight, Geometry::getNumPoints);
+	}
+
+	/**
+	 * @param delegate
+	 *            the factory to create evaluators with.
+	 * @param maxWeight
+	 *            the maximum total weight of cached geometries.
+	 * @param weigher
+	 *            a function that computes the weight of a geometry.
+	 */
+	public PredicateEvaluatorFactoryCaching(PredicateEvaluatorFactory delegate,
+			long maxWeight, ToLongFunction<Geometry> weigher)
+	{
+		this.delegate = delegate;
+		this.maxWeight = maxWeight;
+		this.weigher = weigher;
+	}
+
+	@Override
+	public PredicateEvaluator createPredicateEvaluator(Geometry geometry)
+	{
+		return get(new IdentityKey(geometry), geometry);
+	}
+
+	/**
+	 * Get an evaluator for the specified geometry, using the supplied key to
+	 * identify it in the cache. The key must implement equals and hashCode
+	 * consistently and must not be used for different geometries.
+	 */
+	public PredicateEvaluator createPredicateEvaluator(Object key,
+			Geometry geometry)
+	{
+		return get(key, geometry);
+	}
+
+	private PredicateEvaluator get(Object key, Geometry geometry)
+	{
+		CompletableFuture<PredicateEvaluator> future;
+		boolean create = false;
+		synchronized (this) {
+			Entry entry = cache.get(key);
+			if (entry != null) {
+				hits++;
+				return entry.evaluator;
+			}
+			future = pending.get(key);
+			if (future != null) {
+				hits++;
+			} else {
+				misses++;
+				future = new CompletableFuture<>();
+				pending.put(key, future);
+				create = true;
+			}
+		}
+		if (!create) {
+			// another thread is creating the evaluator
+			return await(future);
+		}
+
+		PredicateEvaluator evaluator;
+		try {
+			evaluator = delegate.createPredicateEvaluator(geometry);
+		} catch (RuntimeException | Error e) {
+			synchronized (this) {
+				pending.remove(key);
+			}
+			future.completeExceptionally(e);
+			throw e;
+		}
+		long w = weigher.applyAsLong(geometry);
+
+		synchronized (this) {
+			pending.remove(key);
+			if (w <= maxWeight) {
+				cache.put(key, new Entry(evaluator, w));
+				weight += w;
+				evict();
+			}
+		}
+		future.complete(evaluator);
+		return evaluator;
+	}
+
+	private static PredicateEvaluator await(
+			CompletableFuture<PredicateEvaluator> future)
+	{
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	private void evict()
+	{
+		Iterator<Map.Entry<Object, Entry>> iterator = cache.entrySet()
+				.iterator();
+		while (weight > maxWeight && iterator.hasNext()) {
+			Entry entry = iterator.next().getValue();
+			iterator.remove();
+			weight -= entry.weight;
+			evictions++;
+		}
+	}
+
+	/**
+	 * Remove all cached evaluators. Does not reset the statistics.
+	 */
+	public synchronized void clear()
+	{
+		cache.clear();
+		weight = 0;
+	}
+
+	/**
+	 * @return the number of cached evaluators.
+	 */
+	public synchronized int size()
+	{
+		return cache.size();
+	}
+
+	/**
+	 * @return the total weight of the cached geometries.
+	 */
+	public synchronized long getWeight()
+	{
+		return weight;
+	}
+
+	public long getMaxWeight()
+	{
+		return maxWeight;
+	}
+
+	/**
+	 * @return the number of requests that were answered from the cache,
+	 *         including those that waited for another thread to create the
+	 *         evaluator.
+	 */
+	public synchronized long getHits()
+	{
+		return hits;
+	}
+
+	/**
+	 * @return the number of requests that required creating a new evaluator.
+	 */
+	public synchronized long getMisses()
+	{
+		return misses;
+	}
+
+	/**
+	 * @return the number of evaluators that have been evicted from the cache.
+	 */
+	public synchronized long getEvictions()
+	{
+		return evictions;
+	}
+
+}
@@ -0,0 +1,84 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.predicate;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygonal;
+
+/**
+ * Creates {@link PredicateEvaluatorGrid} instances for polygonal geometries
+ * and {@link PredicateEvaluatorPrepared} instances for all other geometries.
+ */
+public class PredicateEvaluatorFactoryGrid implements PredicateEvaluatorFactory
+{
+
+	public static final int DEFAULT_RESOLUTION = 256;
+
+	private int resolution;
+	private boolean eager;
+
+	public PredicateEvaluatorFactoryGrid()
+	{
+		this(DEFAULT_RESOLUTION);
+	}
+
+	/**
+	 * @param resolution
+	 *            the number of grid cells along the longer side of the
+	 *            envelope of each geometry.
+	 */
+	public PredicateEvaluatorFactoryGrid(int resolution)
+	{
+		this(resolution, false);
+	}
+
+	/**
+	 * @param resolution
+	 *            the number of grid cells along the longer side of the
+	 *            envelope of each geometry.
+	 * @param eager
+	 *            whether to build all indexes of created evaluators upfront.
+	 *            Use this for evaluators that will be shared by multiple
+	 *            threads.
+	 */
+	public PredicateEvaluatorFactoryGrid(int resolution, boolean eager)
+	{
+		this.resolution = resolution;
+		this.eager = eager;
+	}
+
+	@Override
+	public PredicateEvaluator createPredicateEvaluator(Geometry geometry)
+	{
+		if (geometry instanceof Polygonal) {
+			PredicateEvaluatorGrid evaluator = new PredicateEvaluatorGrid(
+					geometry, resolution);
+			if (eager) {
+				evaluator.initialize();
+			}
+			return evaluator;
+		}
+		PredicateEvaluatorPrepared evaluator = new PredicateEvaluatorPrepared(
+				geometry);
+		if (eager) {
+			evaluator.initialize();
+		}
+		return evaluator;
+	}
+
+}
@@ -22,10 +22,27 @@ import org.locationtech.jts.geom.Geometry;
 public class PredicateEvaluatorFactoryJts implements PredicateEvaluatorFactory
 {
 
+	private boolean envelopeTiers;
+
+	public PredicateEvaluatorFactoryJts()
+	{
+		this(false);
+	}
+
+	/**
+	 * @param envelopeTiers
+	 *            whether created evaluators evaluate envelope predicates
+	 *            using {@link EnvelopeTiers} before evaluating them exactly.
+	 */
+	public PredicateEvaluatorFactoryJts(boolean envelopeTiers)
+	{
+		this.envelopeTiers = envelopeTiers;
+	}
+
 	@Override
 	public PredicateEvaluator createPredicateEvaluator(Geometry geometry)
 	{
-		return new PredicateEvaluatorJts(geometry);
+		return new PredicateEvaluatorJts(geometry, envelopeTiers);
 	}
 
 }
@@ -23,10 +23,49 @@ public class PredicateEvaluatorFactoryJtsPrepared implements
 		PredicateEvaluatorFactory
 {
 
+	private boolean envelopeTiers;
+	private boolean eager;
+
+	public PredicateEvaluatorFactoryJtsPrepared()
+	{
+		this(false);
+	}
+
+	/**
+	 * @param envelopeTiers
+	 *            whether created evaluators evaluate envelope predicates
+	 *            using {@link EnvelopeTiers} before evaluating them exactly.
+	 */
+	public PredicateEvaluatorFactoryJtsPrepared(boolean envelopeTiers)
+	{
+		this(envelopeTiers, false);
+	}
+
+	/**
+	 * @param envelopeTiers
+	 *            whether created evaluators evaluate envelope predicates
+	 *            using {@link EnvelopeTiers} before evaluating them exactly.
+	 * @param eager
+	 *            whether to build all indexes of created evaluators upfront.
+	 *            Use this for evaluators that will be shared by multiple
+	 *            threads.
+	 */
+	public PredicateEvaluatorFactoryJtsPrepared(boolean envelopeTiers,
+			boolean eager)
+	{
+		this.envelopeTiers = envelopeTiers;
+		this.eager = eager;
+	}
+
 	@Override
 	public PredicateEvaluator createPredicateEvaluator(Geometry geometry)
 	{
-		return new PredicateEvaluatorPrepared(geometry);
+		PredicateEvaluatorPrepared evaluator = new PredicateEvaluatorPrepared(
+				geometry, envelopeTiers);
+		if (eager) {
+			evaluator.initialize();
+		}
+		return evaluator;
 	}
 
 }
@@ -0,0 +1,95 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.predicate;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygonal;
+
+import de.topobyte.jts.utils.polygons.split.PolygonSplitUtil;
+import de.topobyte.jts.utils.polygons.split.SplitMode;
+import de.topobyte.jts.utils.polygons.split.SplitTree;
+
+/**
+ * Creates {@link PredicateEvaluatorSplitTree} instances for polygonal
+ * geometries with more points than a configurable maximum. Such geometries
+ * are split into pieces with at most that many points using
+ * {@link PolygonSplitUtil}, each of which is prepared separately, so that the
+ * cost of building and querying the indexes depends on the size of the pieces
+ * rather than the size of the whole geometry.
+ * {@link PredicateEvaluatorPrepared} instances are created for all other
+ * geometries.
+ * 
+ * The default split mode splits with rectangles parallel to the axes, which
+ * allows evaluating envelope predicates by the regions of the split tree.
+ */
+public class PredicateEvaluatorFactorySplit implements PredicateEvaluatorFactory
+{
+
+	public static final int DEFAULT_MAX_POINTS = 1024;
+	public static final SplitMode DEFAULT_SPLIT_MODE = SplitMode.ALTERNATING;
+
+	private int maxPoints;
+	private SplitMode mode;
+	private boolean eager;
+
+	public PredicateEvaluatorFactorySplit()
+	{
+		this(DEFAULT_MAX_POINTS);
+	}
+
+	/**
+	 * @param maxPoints
+	 *            the maximum number of points per piece.
+	 */
+	public PredicateEvaluatorFactorySplit(int maxPoints)
+	{
+		this(maxPoints, DEFAULT_SPLIT_MODE, false);
+	}
+
+	/**
+	 * @param maxPoints
+	 *            the maximum number of points per piece.
+	 * @param mode
+	 *            the mode to split geometries with.
+	 * @param eager
+	 *            whether to build all indexes of created evaluators upfront.
+	 *            Use this for evaluators that will be shared by multiple
+	 *            threads.
+	 */
+	public PredicateEvaluatorFactorySplit(int maxPoints, SplitMode mode,
+			boolean eager)
+	{
+		this.maxPoints = maxPoints;
+		this.mode = mode;
+		this.eager = eager;
+	}
+
+	@Override
+	public PredicateEvaluator createPredicateEvaluator(Geometry geometry)
+	{
+		PredicateEvaluatorFactory pieces = new PredicateEvaluatorFactoryJtsPrepared(
+				false, eager);
+		if (!(geometry instanceof Polygonal)
+				|| geometry.getNumPoints() <= maxPoints) {
+			return pieces.createPredicateEvaluator(geometry);
+		}
+		SplitTree tree = PolygonSplitUtil.splitTree(geometry, maxPoints, mode);
+		return new PredicateEvaluatorSplitTree(tree, pieces);
+	}
+
+}
@@ -0,0 +1,217 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.predicate;
+
+import java.util.BitSet;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.geom.prep.PreparedPolygon;
+
+/**
+ * A predicate evaluator for polygonal geometries that answers point queries
+ * using a {@link GeometryGrid} laid over the envelope of the geometry. Points
+ * that fall into an inner or outer cell are answered by a single array lookup,
+ * only points within boundary cells are located exactly using the point
+ * locator of the prepared geometry.
+ * 
+ * Predicates on envelopes and geometries are delegated to a
+ * {@link PredicateEvaluatorPrepared} that uses the same grid for its
+ * {@link EnvelopeTiers}.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class PredicateEvaluatorGrid extends AbstractPredicateEvaluator
+{
+
+	private final PredicateEvaluatorPrepared delegate;
+	private final GeometryGrid grid;
+
+	/**
+	 * @param geometry
+	 *            a polygonal geometry.
+	 * @param resolution
+	 *            the number of cells along the longer side of the envelope of
+	 *            the geometry.
+	 */
+	public PredicateEvaluatorGrid(Geometry geometry, int resolution)
+	{
+		if (!(geometry instanceof Polygonal)) {
+			throw new IllegalArgumentException(
+					"grid evaluation only accepts Polygonal arguments");
+		}
+
+		PreparedPolygon prepared = (PreparedPolygon) PreparedGeometryFactory
+				.prepare(geometry);
+		grid = new GeometryGrid(geometry, prepared.getPointLocator(),
+				resolution);
+		delegate = new PredicateEvaluatorPrepared(prepared,
+				new EnvelopeTiers(geometry.getEnvelopeInternal(), grid));
+	}
+
+	/**
+	 * Eagerly build all indexes that would otherwise be created on first use.
+	 * 
+	 * @see PredicateEvaluatorPrepared#initialize()
+	 */
+	public void initialize()
+	{
+		delegate.initialize();
+	}
+
+	public GeometryGrid getGrid()
+	{
+		return grid;
+	}
+
+	/**
+	 * @return the statistics of the tiered envelope evaluation.
+	 */
+	public EnvelopeTiers getEnvelopeTiers()
+	{
+		return delegate.getEnvelopeTiers();
+	}
+
+	private int locate(double x, double y, Coordinate buffer)
+	{
+		return grid.locate(x, y, buffer);
+	}
+
+	private boolean covers(double x, double y, Coordinate buffer)
+	{
+		return locate(x, y, buffer) != Location.EXTERIOR;
+	}
+
+	private boolean contains(double x, double y, Coordinate buffer)
+	{
+		return locate(x, y, buffer) == Location.INTERIOR;
+	}
+
+	@Override
+	public boolean covers(Coordinate coordinate)
+	{
+		return grid.locate(coordinate) != Location.EXTERIOR;
+	}
+
+	@Override
+	public boolean contains(Coordinate coordinate)
+	{
+		return grid.locate(coordinate) == Location.INTERIOR;
+	}
+
+	@Override
+	public boolean covers(Point point)
+	{
+		if (point.isEmpty()) {
+			return false;
+		}
+		return covers(point.getCoordinate());
+	}
+
+	@Override
+	public boolean contains(Point point)
+	{
+		if (point.isEmpty()) {
+			return false;
+		}
+		return contains(point.getCoordinate());
+	}
+
+	@Override
+	public void covers(double[] xs, double[] ys, BitSet result)
+	{
+		checkLengths(xs, ys);
+		Coordinate buffer = new Coordinate();
+		for (int i = 0; i < xs.length; i++) {
+			result.set(i, covers(xs[i], ys[i], buffer));
+		}
+	}
+
+	@Override
+	public void contains(double[] xs, double[] ys, BitSet result)
+	{
+		checkLengths(xs, ys);
+		Coordinate buffer = new Coordinate();
+		for (int i = 0; i < xs.length; i++) {
+			result.set(i, contains(xs[i], ys[i], buffer));
+		}
+	}
+
+	@Override
+	public void covers(CoordinateSequence coordinates, BitSet result)
+	{
+		Coordinate buffer = new Coordinate();
+		for (int i = 0; i < coordinates.size(); i++) {
+			result.set(i, covers(coordinates.getX(i), coordinates.getY(i),
+					buffer));
+		}
+	}
+
+	@Override
+	public void contains(CoordinateSequence coordinates, BitSet result)
+	{
+		Coordinate buffer = new Coordinate();
+		for (int i = 0; i < coordinates.size(); i++) {
+			result.set(i, contains(coordinates.getX(i), coordinates.getY(i),
+					buffer));
+		}
+	}
+
+	@Override
+	public boolean covers(Envelope envelope)
+	{
+		return delegate.covers(envelope);
+	}
+
+	@Override
+	public boolean contains(Envelope envelope)
+	{
+		return delegate.contains(envelope);
+	}
+
+	@Override
+	public boolean coversNonCollection(Geometry geometry)
+	{
+		return delegate.coversNonCollection(geometry);
+	}
+
+	@Override
+	public boolean containsNonCollection(Geometry geometry)
+	{
+		return delegate.containsNonCollection(geometry);
+	}
+
+	@Override
+	public boolean intersects(Envelope envelope)
+	{
+		return delegate.intersects(envelope);
+	}
+
+	@Override
+	public boolean intersectsNonCollection(Geometry geometry)
+	{
+		return delegate.intersectsNonCollection(geometry);
+	}
+
+}
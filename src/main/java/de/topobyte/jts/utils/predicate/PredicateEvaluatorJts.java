@@ -17,22 +17,54 @@
 
 package de.topobyte.jts.utils.predicate;
 
+import java.util.BitSet;
+
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
+import org.locationtech.jts.algorithm.locate.SimplePointInAreaLocator;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygonal;
 
 public class PredicateEvaluatorJts extends AbstractPredicateEvaluator
 {
 
-	private GeometryFactory factory;
-	private Geometry geometry;
+	private final GeometryFactory factory;
+	private final Geometry geometry;
+	private final PointOnGeometryLocator locator;
+	private final EnvelopeTiers tiers;
 
 	public PredicateEvaluatorJts(Geometry geometry)
+	{
+		this(geometry, false);
+	}
+
+	/**
+	 * @param envelopeTiers
+	 *            whether to evaluate envelope predicates using
+	 *            {@link EnvelopeTiers} before evaluating them exactly.
+	 */
+	public PredicateEvaluatorJts(Geometry geometry, boolean envelopeTiers)
 	{
 		factory = new GeometryFactory();
 		this.geometry = geometry;
+		locator = geometry instanceof Polygonal
+				? new SimplePointInAreaLocator(geometry) : null;
+		tiers = envelopeTiers ? new EnvelopeTiers(geometry,
+				EnvelopeTiers.DEFAULT_RESOLUTION) : null;
+		computeEnvelopes(geometry);
+	}
+
+	/**
+	 * @return the tiers used for evaluating envelope predicates, or null if
+	 *         envelope predicates are always evaluated exactly.
+	 */
+	public EnvelopeTiers getEnvelopeTiers()
+	{
+		return tiers;
 	}
 
 	@Override
@@ -59,15 +91,67 @@ public class PredicateEvaluatorJts extends AbstractPredicateEvaluator
 		return geometry.contains(point);
 	}
 
+	@Override
+	public void covers(double[] xs, double[] ys, BitSet result)
+	{
+		if (locator == null) {
+			super.covers(xs, ys, result);
+		} else {
+			locate(locator, xs, ys, result, true);
+		}
+	}
+
+	@Override
+	public void contains(double[] xs, double[] ys, BitSet result)
+	{
+		if (locator == null) {
+			super.contains(xs, ys, result);
+		} else {
+			locate(locator, xs, ys, result, false);
+		}
+	}
+
+	@Override
+	public void covers(CoordinateSequence coordinates, BitSet result)
+	{
+		if (locator == null) {
+			super.covers(coordinates, result);
+		} else {
+			locate(locator, coordinates, result, true);
+		}
+	}
+
+	@Override
+	public void contains(CoordinateSequence coordinates, BitSet result)
+	{
+		if (locator == null) {
+			super.contains(coordinates, result);
+		} else {
+			locate(locator, coordinates, result, false);
+		}
+	}
+
 	@Override
 	public boolean covers(Envelope envelope)
 	{
+		if (tiers != null) {
+			int result = tiers.covers(envelope);
+			if (result != EnvelopeTiers.UNDECIDED) {
+				return result == EnvelopeTiers.YES;
+			}
+		}
 		return geometry.covers(factory.toGeometry(envelope));
 	}
 
 	@Override
 	public boolean contains(Envelope envelope)
 	{
+		if (tiers != null) {
+			int result = tiers.contains(envelope);
+			if (result != EnvelopeTiers.UNDECIDED) {
+				return result == EnvelopeTiers.YES;
+			}
+		}
 		return geometry.contains(factory.toGeometry(envelope));
 	}
 
@@ -86,6 +170,12 @@ public class PredicateEvaluatorJts extends AbstractPredicateEvaluator
 	@Override
 	public boolean intersects(Envelope envelope)
 	{
+		if (tiers != null) {
+			int result = tiers.intersects(envelope);
+			if (result != EnvelopeTiers.UNDECIDED) {
+				return result == EnvelopeTiers.YES;
+			}
+		}
 		return geometry.intersects(factory.toGeometry(envelope));
 	}
 
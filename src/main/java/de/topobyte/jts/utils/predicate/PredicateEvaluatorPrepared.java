@@ -17,30 +17,137 @@
 
 package de.topobyte.jts.utils.predicate;
 
+import java.util.BitSet;
+
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygonal;
 import org.locationtech.jts.geom.prep.PreparedGeometry;
 import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.geom.prep.PreparedLineString;
+import org.locationtech.jts.geom.prep.PreparedPolygon;
+import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.noding.FastSegmentSetIntersectionFinder;
+import org.locationtech.jts.noding.MCIndexSegmentSetMutualIntersector;
+import org.locationtech.jts.noding.SegmentSetMutualIntersector;
 
 public class PredicateEvaluatorPrepared extends AbstractPredicateEvaluator
 {
 
-	private GeometryFactory factory;
-	private PreparedGeometry geometry;
+	private final GeometryFactory factory;
+	private final PreparedGeometry geometry;
+	private final PointOnGeometryLocator locator;
+	private final EnvelopeTiers tiers;
 
 	public PredicateEvaluatorPrepared(Geometry geometry)
 	{
-		this.geometry = PreparedGeometryFactory.prepare(geometry);
-		factory = new GeometryFactory();
+		this(PreparedGeometryFactory.prepare(geometry), false);
 	}
 
 	public PredicateEvaluatorPrepared(PreparedGeometry geometry)
+	{
+		this(geometry, false);
+	}
+
+	/**
+	 * @param envelopeTiers
+	 *            whether to evaluate envelope predicates using
+	 *            {@link EnvelopeTiers} before evaluating them exactly.
+	 */
+	public PredicateEvaluatorPrepared(Geometry geometry, boolean envelopeTiers)
+	{
+		this(PreparedGeometryFactory.prepare(geometry), envelopeTiers);
+	}
+
+	/**
+	 * @param envelopeTiers
+	 *            whether to evaluate envelope predicates using
+	 *            {@link EnvelopeTiers} before evaluating them exactly.
+	 */
+	public PredicateEvaluatorPrepared(PreparedGeometry geometry,
+			boolean envelopeTiers)
+	{
+		this(geometry, envelopeTiers ? new EnvelopeTiers(geometry,
+				EnvelopeTiers.DEFAULT_RESOLUTION) : null);
+	}
+
+	/**
+	 * @param tiers
+	 *            the tiers to evaluate envelope predicates with before
+	 *            evaluating them exactly, may be null.
+	 */
+	public PredicateEvaluatorPrepared(PreparedGeometry geometry,
+			EnvelopeTiers tiers)
 	{
 		this.geometry = geometry;
+		this.tiers = tiers;
 		factory = new GeometryFactory();
+		locator = createLocator(geometry);
+		computeEnvelopes(geometry.getGeometry());
+	}
+
+	/**
+	 * Create a locator for points in the geometry, reusing the index of the
+	 * prepared geometry if possible. Returns null for non-polygonal geometries.
+	 */
+	private static PointOnGeometryLocator createLocator(
+			PreparedGeometry geometry)
+	{
+		if (geometry instanceof PreparedPolygon) {
+			return ((PreparedPolygon) geometry).getPointLocator();
+		} else if (geometry.getGeometry() instanceof Polygonal) {
+			return new IndexedPointInAreaLocator(geometry.getGeometry());
+		}
+		return null;
+	}
+
+	/**
+	 * Eagerly build all indexes of the prepared geometry that would otherwise
+	 * be created on first use. After calling this method, no thread using this
+	 * evaluator pays for or contends on the initialization of indexes.
+	 */
+	public void initialize()
+	{
+		if (geometry instanceof PreparedPolygon) {
+			build(((PreparedPolygon) geometry).getIntersectionFinder());
+		} else if (geometry instanceof PreparedLineString) {
+			build(((PreparedLineString) geometry).getIntersectionFinder());
+		}
+		if (locator != null) {
+			// locating any point triggers creation of the index
+			Envelope envelope = geometry.getGeometry().getEnvelopeInternal();
+			locator.locate(
+					new Coordinate(envelope.getMinX(), envelope.getMinY()));
+		}
+	}
+
+	private static void build(FastSegmentSetIntersectionFinder finder)
+	{
+		SegmentSetMutualIntersector intersector = finder
+				.getSegmentSetIntersector();
+		if (intersector instanceof MCIndexSegmentSetMutualIntersector) {
+			SpatialIndex index = ((MCIndexSegmentSetMutualIntersector) intersector)
+					.getIndex();
+			if (index instanceof STRtree) {
+				((STRtree) index).build();
+			}
+		}
+	}
+
+	/**
+	 * @return the tiers used for evaluating envelope predicates, or null if
+	 *         envelope predicates are always evaluated exactly.
+	 */
+	public EnvelopeTiers getEnvelopeTiers()
+	{
+		return tiers;
 	}
 
 	@Override
@@ -67,15 +174,67 @@ public class PredicateEvaluatorPrepared extends AbstractPredicateEvaluator
 		return geometry.contains(point);
 	}
 
+	@Override
+	public void covers(double[] xs, double[] ys, BitSet result)
+	{
+		if (locator == null) {
+			super.covers(xs, ys, result);
+		} else {
+			locate(locator, xs, ys, result, true);
+		}
+	}
+
+	@Override
+	public void contains(double[] xs, double[] ys, BitSet result)
+	{
+		if (locator == null) {
+			super.contains(xs, ys, result);
+		} else {
+			locate(locator, xs, ys, result, false);
+		}
+	}
+
+	@Override
+	public void covers(CoordinateSequence coordinates, BitSet result)
+	{
+		if (locator == null) {
+			super.covers(coordinates, result);
+		} else {
+			locate(locator, coordinates, result, true);
+		}
+	}
+
+	@Override
+	public void contains(CoordinateSequence coordinates, BitSet result)
+	{
+		if (locator == null) {
+			super.contains(coordinates, result);
+		} else {
+			locate(locator, coordinates, result, false);
+		}
+	}
+
 	@Override
 	public boolean covers(Envelope envelope)
 	{
+		if (tiers != null) {
+			int result = tiers.covers(envelope);
+			if (result != EnvelopeTiers.UNDECIDED) {
+				return result == EnvelopeTiers.YES;
+			}
+		}
 		return geometry.covers(factory.toGeometry(envelope));
 	}
 
 	@Override
 	public boolean contains(Envelope envelope)
 	{
+		if (tiers != null) {
+			int result = tiers.contains(envelope);
+			if (result != EnvelopeTiers.UNDECIDED) {
+				return result == EnvelopeTiers.YES;
+			}
+		}
 		return geometry.contains(factory.toGeometry(envelope));
 	}
 
@@ -94,6 +253,12 @@ public class PredicateEvaluatorPrepared extends AbstractPredicateEvaluator
 	@Override
 	public boolean intersects(Envelope envelope)
 	{
+		if (tiers != null) {
+			int result = tiers.intersects(envelope);
+			if (result != EnvelopeTiers.UNDECIDED) {
+				return result == EnvelopeTiers.YES;
+			}
+		}
 		return geometry.intersects(factory.toGeometry(envelope));
 	}
 
@@ -17,7 +17,10 @@
 
 package de.topobyte.jts.utils.predicate;
 
+import java.util.BitSet;
+
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -26,12 +29,12 @@ import org.locationtech.jts.geom.Point;
 public class PredicateEvaluatorRectangle extends AbstractPredicateEvaluator
 {
 
-	private double minX;
-	private double maxX;
-	private double minY;
-	private double maxY;
+	private final double minX;
+	private final double maxX;
+	private final double minY;
+	private final double maxY;
 
-	private Geometry box = null;
+	private volatile Geometry box = null;
 
 	public PredicateEvaluatorRectangle(double minX, double minY, double maxX,
 			double maxY)
@@ -50,12 +53,19 @@ public class PredicateEvaluatorRectangle extends AbstractPredicateEvaluator
 		this.maxY = envelope.getMaxY();
 	}
 
-	private void initBox()
+	private Geometry initBox()
 	{
+		Geometry box = this.box;
 		if (box == null) {
+			// concurrent initialization may create multiple equal boxes, which
+			// is harmless. The envelope is computed before publication, so
+			// that the box is never modified afterwards.
 			GeometryFactory factory = new GeometryFactory();
 			box = factory.toGeometry(new Envelope(minX, maxX, minY, maxY));
+			box.getEnvelopeInternal();
+			this.box = box;
 		}
+		return box;
 	}
 
 	@Override
@@ -100,6 +110,48 @@ public class PredicateEvaluatorRectangle extends AbstractPredicateEvaluator
 		return x > minX && x < maxX && y > minY && y < maxY;
 	}
 
+	@Override
+	public void covers(double[] xs, double[] ys, BitSet result)
+	{
+		checkLengths(xs, ys);
+		for (int i = 0; i < xs.length; i++) {
+			double x = xs[i];
+			double y = ys[i];
+			result.set(i, x >= minX && x <= maxX && y >= minY && y <= maxY);
+		}
+	}
+
+	@Override
+	public void contains(double[] xs, double[] ys, BitSet result)
+	{
+		checkLengths(xs, ys);
+		for (int i = 0; i < xs.length; i++) {
+			double x = xs[i];
+			double y = ys[i];
+			result.set(i, x > minX && x < maxX && y > minY && y < maxY);
+		}
+	}
+
+	@Override
+	public void covers(CoordinateSequence coordinates, BitSet result)
+	{
+		for (int i = 0; i < coordinates.size(); i++) {
+			double x = coordinates.getX(i);
+			double y = coordinates.getY(i);
+			result.set(i, x >= minX && x <= maxX && y >= minY && y <= maxY);
+		}
+	}
+
+	@Override
+	public void contains(CoordinateSequence coordinates, BitSet result)
+	{
+		for (int i = 0; i < coordinates.size(); i++) {
+			double x = coordinates.getX(i);
+			double y = coordinates.getY(i);
+			result.set(i, x > minX && x < maxX && y > minY && y < maxY);
+		}
+	}
+
 	@Override
 	public boolean covers(Envelope env)
 	{
@@ -117,15 +169,13 @@ public class PredicateEvaluatorRectangle extends AbstractPredicateEvaluator
 	@Override
 	public boolean coversNonCollection(Geometry geometry)
 	{
-		initBox();
-		return box.covers(geometry);
+		return initBox().covers(geometry);
 	}
 
 	@Override
 	public boolean containsNonCollection(Geometry geometry)
 	{
-		initBox();
-		return box.contains(geometry);
+		return initBox().contains(geometry);
 	}
 
 	@Override
@@ -138,8 +188,7 @@ public class PredicateEvaluatorRectangle extends AbstractPredicateEvaluator
 	@Override
 	public boolean intersectsNonCollection(Geometry geometry)
 	{
-		initBox();
-		return box.intersects(geometry);
+		return initBox().intersects(geometry);
 	}
 
 }
@@ -0,0 +1,636 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.predicate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.noding.snap.SnappingNoder;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+
+import de.topobyte.jts.utils.polygons.split.SplitTree;
+
+/**
+ * A predicate evaluator for a geometry that has been split into pieces. Each
+ * query descends the {@link SplitTree} and is evaluated against the pieces
+ * whose envelope it intersects only, using an evaluator per piece. Pieces
+ * whose region lies within the geometry entirely are evaluated as rectangles.
+ * 
+ * All predicates are decided by the pieces, the original geometry is not
+ * needed. Coverage of envelopes and geometries that span multiple pieces is
+ * decided by distributing them over the regions of the tree, such that each
+ * part is tested against a single piece. Where regions are unknown (such as
+ * in trees split along lines that are not parallel to the axes) or shared by
+ * the components of a geometry collection, the pieces are subtracted from the
+ * query instead, snapping vertices that are closer than a tolerance of 1e-12
+ * times the extent of the geometry, so that the rounded vertices on split
+ * lines do not leave slivers. Points on the boundary of pieces are covered if
+ * any piece covers them and contained if the pieces cover a small box around
+ * them, hence points within a few units in the last place of the boundary of
+ * the geometry (a thousand times the tolerance without regions) are
+ * considered to lie on its boundary.
+ * 
+ * Coverage of envelopes by components of geometry collections assumes that
+ * the geometry is valid.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class PredicateEvaluatorSplitTree extends AbstractPredicateEvaluator
+{
+
+	private static final int YES = EnvelopeTiers.YES;
+	private static final int NO = EnvelopeTiers.NO;
+	private static final int UNDECIDED = EnvelopeTiers.UNDECIDED;
+
+	// results of testing geometries against multiple pieces
+	private static final int UNCOVERED = 0;
+	private static final int BOUNDARY = 1;
+	private static final int INTERIOR = 2;
+
+	// relative to the extent of the geometry
+	private static final double SNAP_TOLERANCE = 1e-12;
+	private static final double PROBE_SIZE = 1e-9;
+
+	private final GeometryFactory factory;
+	private final SplitTree tree;
+	private final PredicateEvaluator[] evaluators;
+	private final double tolerance;
+
+	/**
+	 * Create an evaluator that evaluates predicates on each piece using
+	 * {@link PredicateEvaluatorPrepared}.
+	 * 
+	 * @param tree
+	 *            the split tree of the geometry.
+	 */
+	public PredicateEvaluatorSplitTree(SplitTree tree)
+	{
+		this(tree, new PredicateEvaluatorFactoryJtsPrepared());
+	}
+
+	/**
+	 * @param tree
+	 *            the split tree of the geometry.
+	 * @param factory
+	 *            the factory to create the evaluators for the pieces with.
+	 */
+	public PredicateEvaluatorSplitTree(SplitTree tree,
+			PredicateEvaluatorFactory factory)
+	{
+		this.tree = tree;
+		this.factory = new GeometryFactory();
+		Envelope envelope = tree.getEnvelope();
+		tolerance = Math.max(envelope.getWidth(), envelope.getHeight())
+				* SNAP_TOLERANCE;
+		List<SplitTree.Node> leaves = tree.getLeaves();
+		evaluators = new PredicateEvaluator[leaves.size()];
+		for (int i = 0; i < evaluators.length; i++) {
+			SplitTree.Node leaf = leaves.get(i);
+			if (leaf.isInterior()) {
+				evaluators[i] = new PredicateEvaluatorRectangle(
+						leaf.getRegion());
+			} else {
+				evaluators[i] = factory
+						.createPredicateEvaluator(leaf.getPiece());
+			}
+		}
+	}
+
+	public SplitTree getTree()
+	{
+		return tree;
+	}
+
+	private PredicateEvaluator evaluator(SplitTree.Node leaf)
+	{
+		return evaluators[leaf.getIndex()];
+	}
+
+	@Override
+	public boolean covers(Coordinate coordinate)
+	{
+		// covered by any piece means covered by the geometry
+		return locate(tree.getRoot(), coordinate) != NO;
+	}
+
+	@Override
+	public boolean contains(Coordinate coordinate)
+	{
+		int result = locate(tree.getRoot(), coordinate);
+		if (result != UNDECIDED) {
+			return result == YES;
+		}
+		return interior(coordinate);
+	}
+
+	/**
+	 * Decide whether the coordinate lies in the interior of a piece below the
+	 * node. The coordinate is undecided if it lies on the boundary of the
+	 * pieces only, which is the case on a split line but also on the boundary
+	 * of the geometry.
+	 */
+	private int locate(SplitTree.Node node, Coordinate coordinate)
+	{
+		if (!node.getEnvelope().covers(coordinate)) {
+			return NO;
+		}
+		if (node.isLeaf()) {
+			PredicateEvaluator evaluator = evaluator(node);
+			if (evaluator.contains(coordinate)) {
+				return YES;
+			}
+			return evaluator.covers(coordinate) ? UNDECIDED : NO;
+		}
+		int result = NO;
+		for (int i = 0; i < node.getNumChildren(); i++) {
+			int r = locate(node.getChild(i), coordinate);
+			if (r == YES) {
+				return YES;
+			} else if (r == UNDECIDED) {
+				result = UNDECIDED;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Decide whether a coordinate on the boundary of the pieces lies in the
+	 * interior of the geometry, which is the case if the pieces jointly cover
+	 * a box around it that is a few units in the last place wide, or wider
+	 * where the pieces have to be subtracted from it.
+	 */
+	private boolean interior(Coordinate coordinate)
+	{
+		// two steps on each side, so that the box still has an area when it
+		// is clipped to a region bounded by the coordinate, see clip()
+		Envelope box = new Envelope(
+				Math.nextDown(Math.nextDown(coordinate.x)),
+				Math.nextUp(Math.nextUp(coordinate.x)),
+				Math.nextDown(Math.nextDown(coordinate.y)),
+				Math.nextUp(Math.nextUp(coordinate.y)));
+		if (!tree.getEnvelope().covers(box)) {
+			return false;
+		}
+		int result = covers(tree.getRoot(), box);
+		if (result != UNDECIDED) {
+			return result == YES;
+		}
+		box = new Envelope(coordinate);
+		box.expandBy(tolerance * (PROBE_SIZE / SNAP_TOLERANCE));
+		if (!tree.getEnvelope().covers(box)) {
+			return false;
+		}
+		return coverage(tree.getRoot(), factory.toGeometry(box)) != UNCOVERED;
+	}
+
+	@Override
+	public boolean covers(Point point)
+	{
+		if (point.isEmpty()) {
+			return false;
+		}
+		return covers(point.getCoordinate());
+	}
+
+	@Override
+	public boolean contains(Point point)
+	{
+		if (point.isEmpty()) {
+			return false;
+		}
+		return contains(point.getCoordinate());
+	}
+
+	/**
+	 * Decide whether the envelope, which lies within the region of the node
+	 * if known, is covered by the part of the geometry represented by the
+	 * node.
+	 */
+	private int covers(SplitTree.Node node, Envelope envelope)
+	{
+		if (node.isInterior()) {
+			return YES;
+		}
+		if (node.isLeaf()) {
+			if (node.getIndex() < 0) {
+				return NO;
+			}
+			if (!hasArea(envelope)) {
+				// same as for coordinates on the boundary of a piece
+				return evaluator(node).contains(envelope) ? YES : UNDECIDED;
+			}
+			return evaluator(node).covers(envelope) ? YES : NO;
+		}
+		if (!node.isPartition()) {
+			// The components of a valid polygonal geometry only touch at
+			// points, hence an envelope with an interior can only be covered
+			// by a single component. Other envelopes might be covered by
+			// multiple components jointly.
+			boolean intersects = false;
+			boolean undecided = false;
+			for (int i = 0; i < node.getNumChildren(); i++) {
+				SplitTree.Node child = node.getChild(i);
+				Envelope childEnvelope = child.getEnvelope();
+				if (!childEnvelope.intersects(envelope)) {
+					continue;
+				}
+				intersects = true;
+				if (!childEnvelope.covers(envelope)) {
+					continue;
+				}
+				int result = covers(child, envelope);
+				if (result == YES) {
+					return YES;
+				} else if (result == UNDECIDED) {
+					undecided = true;
+				}
+			}
+			if (!intersects) {
+				return NO;
+			}
+			if (undecided || !hasArea(envelope)) {
+				return UNDECIDED;
+			}
+			return NO;
+		}
+		Envelope regions = new Envelope();
+		for (int i = 0; i < node.getNumChildren(); i++) {
+			Envelope region = node.getChild(i).getRegion();
+			if (region == null) {
+				return UNDECIDED;
+			}
+			regions.expandToInclude(region);
+		}
+		if (!regions.covers(envelope)) {
+			// the envelope extends beyond the geometry of the node
+			return NO;
+		}
+		if (!hasArea(envelope)) {
+			// Points and lines on a split line belong to the regions on both
+			// sides, it suffices if one of the pieces covers them.
+			for (int i = 0; i < node.getNumChildren(); i++) {
+				SplitTree.Node child = node.getChild(i);
+				if (child.getRegion().covers(envelope)
+						&& covers(child, envelope) == YES) {
+					return YES;
+				}
+			}
+			return UNDECIDED;
+		}
+		for (int i = 0; i < node.getNumChildren(); i++) {
+			SplitTree.Node child = node.getChild(i);
+			Envelope part = clip(envelope, child.getRegion());
+			if (part == null) {
+				continue;
+			}
+			if (!hasArea(part)) {
+				// the region is too narrow to be clipped to
+				return UNDECIDED;
+			}
+			int result = covers(child, part);
+			if (result != YES) {
+				return result;
+			}
+		}
+		return YES;
+	}
+
+	private static boolean hasArea(Envelope envelope)
+	{
+		return envelope.getWidth() > 0 && envelope.getHeight() > 0;
+	}
+
+	/**
+	 * Clip the envelope to the region. Sides that are cut by the region are
+	 * moved inwards by the smallest possible amount, so that the part does not
+	 * share the split line with the boundary of the piece, which would force a
+	 * full topological evaluation. The split line itself is covered if the
+	 * parts on both sides of it are, since no vertex of the geometry can lie
+	 * strictly between a split line and the adjacent floating point values.
+	 * Returns null if the part is empty.
+	 */
+	private static Envelope clip(Envelope envelope, Envelope region)
+	{
+		double minX = envelope.getMinX();
+		double maxX = envelope.getMaxX();
+		double minY = envelope.getMinY();
+		double maxY = envelope.getMaxY();
+		if (region.getMinX() > minX) {
+			minX = Math.nextUp(region.getMinX());
+		}
+		if (region.getMaxX() < maxX) {
+			maxX = Math.nextDown(region.getMaxX());
+		}
+		if (region.getMinY() > minY) {
+			minY = Math.nextUp(region.getMinY());
+		}
+		if (region.getMaxY() < maxY) {
+			maxY = Math.nextDown(region.getMaxY());
+		}
+		if (minX > maxX || minY > maxY) {
+			return null;
+		}
+		return new Envelope(minX, maxX, minY, maxY);
+	}
+
+	@Override
+	public boolean covers(Envelope envelope)
+	{
+		if (!tree.getEnvelope().covers(envelope)) {
+			return false;
+		}
+		int result = covers(tree.getRoot(), envelope);
+		if (result != UNDECIDED) {
+			return result == YES;
+		}
+		return coversPieces(factory.toGeometry(envelope));
+	}
+
+	@Override
+	public boolean contains(Envelope envelope)
+	{
+		if (!tree.getEnvelope().covers(envelope)) {
+			return false;
+		}
+		// an envelope with an interior is contained if it is covered, a
+		// degenerate envelope is contained if it lies in the interior of a
+		// piece and not contained if it is not covered
+		int result = covers(tree.getRoot(), envelope);
+		if (result != UNDECIDED) {
+			return result == YES;
+		}
+		return containsNonCollection(factory.toGeometry(envelope));
+	}
+
+	@Override
+	public boolean intersects(Envelope envelope)
+	{
+		return tree.anyMatch(envelope,
+				leaf -> evaluator(leaf).intersects(envelope));
+	}
+
+	@Override
+	public boolean coversNonCollection(Geometry geometry)
+	{
+		Envelope envelope = geometry.getEnvelopeInternal();
+		if (!tree.getEnvelope().covers(envelope)) {
+			return false;
+		}
+		// the geometry is covered if its envelope is
+		if (covers(tree.getRoot(), envelope) == YES) {
+			return true;
+		}
+		return coversPieces(geometry);
+	}
+
+	/**
+	 * Test coverage by single pieces first and by multiple pieces if the
+	 * geometry spans multiple pieces.
+	 */
+	private boolean coversPieces(Geometry query)
+	{
+		List<SplitTree.Node> candidates = candidates(query);
+		for (SplitTree.Node leaf : candidates) {
+			if (evaluator(leaf).covers(query)) {
+				return true;
+			}
+		}
+		if (candidates.size() < 2) {
+			return false;
+		}
+		return coverage(tree.getRoot(), query) != UNCOVERED;
+	}
+
+	@Override
+	public boolean containsNonCollection(Geometry query)
+	{
+		if (!tree.getEnvelope().covers(query.getEnvelopeInternal())) {
+			return false;
+		}
+		List<SplitTree.Node> candidates = candidates(query);
+		for (SplitTree.Node leaf : candidates) {
+			if (evaluator(leaf).contains(query)) {
+				return true;
+			}
+		}
+		if (candidates.size() < 2) {
+			return false;
+		}
+		int result = coverage(tree.getRoot(), query);
+		if (result != BOUNDARY) {
+			return result == INTERIOR;
+		}
+		// covered, but no part lies in the interior of a piece
+		return anyInterior(query);
+	}
+
+	@Override
+	public boolean intersectsNonCollection(Geometry geometry)
+	{
+		return tree.anyMatch(geometry.getEnvelopeInternal(),
+				leaf -> evaluator(leaf).intersects(geometry));
+	}
+
+	private List<SplitTree.Node> candidates(Geometry query)
+	{
+		List<SplitTree.Node> candidates = new ArrayList<>();
+		tree.query(query.getEnvelopeInternal(), candidates::add);
+		return candidates;
+	}
+
+	/**
+	 * Decide whether the part of the query, which lies within the region of
+	 * the node if known, is covered by the pieces below the node. Like for
+	 * envelopes, the part is clipped to the regions of the children of
+	 * partition nodes, such that each part is tested against a single piece.
+	 * 
+	 * @return {@link #UNCOVERED}, {@link #INTERIOR} if the part is covered and
+	 *         some part lies in the interior of a piece, {@link #BOUNDARY} if
+	 *         it is covered but no part is known to lie in the interior of a
+	 *         piece.
+	 */
+	private int coverage(SplitTree.Node node, Geometry part)
+	{
+		if (node.isLeaf()) {
+			if (node.getIndex() < 0) {
+				return UNCOVERED;
+			}
+			PredicateEvaluator evaluator = evaluator(node);
+			if (evaluator.contains(part)) {
+				return INTERIOR;
+			}
+			return evaluator.covers(part) ? BOUNDARY : UNCOVERED;
+		}
+		if (!node.isPartition() || !hasRegions(node)) {
+			return subtract(node, part);
+		}
+		Envelope envelope = part.getEnvelopeInternal();
+		int dimension = part.getDimension();
+		int result = BOUNDARY;
+		for (int i = 0; i < node.getNumChildren(); i++) {
+			SplitTree.Node child = node.getChild(i);
+			Envelope region = child.getRegion();
+			if (!region.intersects(envelope)) {
+				continue;
+			}
+			Geometry clipped = region.covers(envelope) ? part
+					: OverlayNGRobust.overlay(part, factory.toGeometry(region),
+							OverlayNG.INTERSECTION);
+			for (int k = 0; k < clipped.getNumGeometries(); k++) {
+				Geometry component = clipped.getGeometryN(k);
+				// components of lower dimension lie on the boundary of the
+				// other components, which are tested themselves
+				if (component.isEmpty()
+						|| component.getDimension() < dimension) {
+					continue;
+				}
+				int r = coverage(child, component);
+				if (r == UNCOVERED) {
+					// components on a split line may belong to the other side
+					r = coverageBySiblings(node, child, component);
+				}
+				if (r == UNCOVERED) {
+					return UNCOVERED;
+				} else if (r == INTERIOR) {
+					result = INTERIOR;
+				}
+			}
+		}
+		return result;
+	}
+
+	private int coverageBySiblings(SplitTree.Node node, SplitTree.Node child,
+			Geometry component)
+	{
+		Envelope envelope = component.getEnvelopeInternal();
+		for (int i = 0; i < node.getNumChildren(); i++) {
+			SplitTree.Node sibling = node.getChild(i);
+			if (sibling == child || !sibling.getRegion().covers(envelope)) {
+				continue;
+			}
+			int result = coverage(sibling, component);
+			if (result != UNCOVERED) {
+				return result;
+			}
+		}
+		return UNCOVERED;
+	}
+
+	private static boolean hasRegions(SplitTree.Node node)
+	{
+		for (int i = 0; i < node.getNumChildren(); i++) {
+			if (node.getChild(i).getRegion() == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Decide coverage of the part by subtracting the pieces below the node
+	 * that it might intersect, for nodes whose children do not partition a
+	 * known region.
+	 */
+	private int subtract(SplitTree.Node node, Geometry part)
+	{
+		List<SplitTree.Node> candidates = new ArrayList<>();
+		collect(node, part.getEnvelopeInternal(), candidates);
+		Geometry remaining = part;
+		for (SplitTree.Node leaf : candidates) {
+			if (evaluator(leaf).contains(part)) {
+				// a single piece contains the part
+				return INTERIOR;
+			}
+			// pieces may contain lower dimensional components, which
+			// cannot be mixed with areas in overlay inputs
+			Geometry piece = leaf.getPiece();
+			for (int k = 0; k < piece.getNumGeometries(); k++) {
+				Geometry component = piece.getGeometryN(k);
+				if (component.getDimension() == 2) {
+					remaining = difference(remaining, component);
+				}
+			}
+			if (remaining.isEmpty()) {
+				break;
+			}
+		}
+		if (!remaining.isEmpty()) {
+			return UNCOVERED;
+		}
+		// a covered areal part has points in the interior of the pieces
+		return part.getDimension() == 2 ? INTERIOR : BOUNDARY;
+	}
+
+	private Geometry difference(Geometry a, Geometry b)
+	{
+		if (tolerance > 0) {
+			try {
+				return OverlayNG.overlay(a, b, OverlayNG.DIFFERENCE,
+						new SnappingNoder(tolerance));
+			} catch (RuntimeException e) {
+				// fall back to the robust strategies below
+			}
+		}
+		return OverlayNGRobust.overlay(a, b, OverlayNG.DIFFERENCE);
+	}
+
+	private static void collect(SplitTree.Node node, Envelope envelope,
+			List<SplitTree.Node> leaves)
+	{
+		if (!node.getEnvelope().intersects(envelope)) {
+			return;
+		}
+		if (node.isLeaf()) {
+			leaves.add(node);
+			return;
+		}
+		for (int i = 0; i < node.getNumChildren(); i++) {
+			collect(node.getChild(i), envelope, leaves);
+		}
+	}
+
+	/**
+	 * Test whether any vertex or segment midpoint of a covered geometry lies
+	 * in the interior of the geometry.
+	 */
+	private boolean anyInterior(Geometry query)
+	{
+		Coordinate[] coordinates = query.getCoordinates();
+		Coordinate midpoint = new Coordinate();
+		for (int i = 0; i < coordinates.length; i++) {
+			if (interior(coordinates[i])) {
+				return true;
+			}
+			if (i > 0) {
+				midpoint.x = (coordinates[i - 1].x + coordinates[i].x) / 2;
+				midpoint.y = (coordinates[i - 1].y + coordinates[i].y) / 2;
+				if (interior(midpoint)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+}
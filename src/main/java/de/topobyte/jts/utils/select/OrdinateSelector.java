@@ -0,0 +1,177 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.select;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Selects quantiles of the x-, y-ordinates or projected coordinates of a
+ * geometry. The values are read directly from the coordinate sequences of the
+ * geometry into a primitive buffer that is reused for subsequent geometries
+ * and only grows if required. Selection is performed in place using
+ * {@link QuickSelect}.
+ * 
+ * Instances are not thread-safe.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class OrdinateSelector
+{
+
+	private double[] values;
+	private int n = 0;
+
+	public OrdinateSelector()
+	{
+		this(16);
+	}
+
+	public OrdinateSelector(int initialCapacity)
+	{
+		values = new double[initialCapacity];
+	}
+
+	/**
+	 * Load the x-ordinates (horizontal == true) or y-ordinates (horizontal ==
+	 * false) of all coordinates of the specified geometry.
+	 */
+	public void load(Geometry geometry, boolean horizontal)
+	{
+		if (horizontal) {
+			load(geometry, 0, 0, 1, 0);
+		} else {
+			load(geometry, 0, 0, 0, 1);
+		}
+	}
+
+	/**
+	 * Load the projections of all coordinates of the specified geometry onto
+	 * the vector (ex, ey), relative to the origin (ox, oy).
+	 */
+	public void load(Geometry geometry, double ox, double oy, double ex,
+			double ey)
+	{
+		ensureCapacity(geometry.getNumPoints());
+		n = 0;
+		geometry.apply(new ProjectionFilter(ox, oy, ex, ey));
+	}
+
+	private void ensureCapacity(int capacity)
+	{
+		if (values.length < capacity) {
+			values = new double[Math.max(capacity, values.length * 2)];
+		}
+	}
+
+	/**
+	 * @return the number of values currently loaded.
+	 */
+	public int size()
+	{
+		return n;
+	}
+
+	/**
+	 * Select the value that would be at position k if the values were sorted.
+	 * Reorders the values in the buffer.
+	 */
+	public double select(int k)
+	{
+		return QuickSelect.select(values, 0, n, k);
+	}
+
+	/**
+	 * Select the value at relative position q of the sorted values. Reorders
+	 * the values in the buffer.
+	 */
+	public double quantile(double q)
+	{
+		return QuickSelect.quantile(values, 0, n, q);
+	}
+
+	/**
+	 * Select the median, i.e. the element at index size() / 2 of the sorted
+	 * values. Reorders the values in the buffer.
+	 */
+	public double median()
+	{
+		return select(n / 2);
+	}
+
+	/**
+	 * @return the smallest loaded value.
+	 */
+	public double min()
+	{
+		double min = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			min = Math.min(min, values[i]);
+		}
+		return min;
+	}
+
+	/**
+	 * @return the largest loaded value.
+	 */
+	public double max()
+	{
+		double max = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			max = Math.max(max, values[i]);
+		}
+		return max;
+	}
+
+	private class ProjectionFilter implements CoordinateSequenceFilter
+	{
+
+		private double ox, oy, ex, ey;
+
+		ProjectionFilter(double ox, double oy, double ex, double ey)
+		{
+			this.ox = ox;
+			this.oy = oy;
+			this.ex = ex;
+			this.ey = ey;
+		}
+
+		@Override
+		public void filter(CoordinateSequence seq, int i)
+		{
+			double dx = seq.getX(i) - ox;
+			double dy = seq.getY(i) - oy;
+			values[n++] = ex * dx + ey * dy;
+		}
+
+		@Override
+		public boolean isDone()
+		{
+			return false;
+		}
+
+		@Override
+		public boolean isGeometryChanged()
+		{
+			return false;
+		}
+
+	}
+
+}
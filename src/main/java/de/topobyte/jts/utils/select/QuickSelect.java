@@ -0,0 +1,143 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.select;
+
+import java.util.Arrays;
+
+/**
+ * In-place selection of the k'th smallest element of a primitive array in
+ * expected linear time. Uses quickselect with median-of-three pivots and falls
+ * back to sorting the remaining range if partitioning degenerates
+ * (introselect).
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public class QuickSelect
+{
+
+	/**
+	 * Reorder the specified range of the array such that the element at
+	 * position k is the element that would be at that position if the range
+	 * was sorted, all elements before k are less than or equal to it and all
+	 * elements after k are greater than or equal to it.
+	 * 
+	 * @param values
+	 *            the array to select from.
+	 * @param from
+	 *            the first index of the range (inclusive).
+	 * @param to
+	 *            the last index of the range (exclusive).
+	 * @param k
+	 *            the index to select, within [from, to).
+	 * @return the selected value.
+	 */
+	public static double select(double[] values, int from, int to, int k)
+	{
+		if (k < from || k >= to) {
+			throw new IllegalArgumentException(
+					"'k' must be in [" + from + "," + to
+							+ "), currently is: '" + k + "'");
+		}
+
+		int left = from;
+		int right = to - 1;
+		int budget = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+
+		while (right > left) {
+			if (budget-- == 0) {
+				Arrays.sort(values, left, right + 1);
+				return values[k];
+			}
+
+			// median of three as pivot, moved to values[left]
+			int mid = (left + right) >>> 1;
+			if (values[mid] < values[left]) {
+				swap(values, mid, left);
+			}
+			if (values[right] < values[left]) {
+				swap(values, right, left);
+			}
+			if (values[right] < values[mid]) {
+				swap(values, right, mid);
+			}
+			swap(values, left, mid);
+			double pivot = values[left];
+
+			// Hoare partition
+			int i = left;
+			int j = right + 1;
+			while (true) {
+				while (values[++i] < pivot) {
+					if (i == right) {
+						break;
+					}
+				}
+				while (values[--j] > pivot) {
+					// values[left] is the pivot, stops the scan
+				}
+				if (i >= j) {
+					break;
+				}
+				swap(values, i, j);
+			}
+			swap(values, left, j);
+
+			if (j == k) {
+				return values[k];
+			} else if (j > k) {
+				right = j - 1;
+			} else {
+				left = j + 1;
+			}
+		}
+		return values[k];
+	}
+
+	/**
+	 * Select the element of the specified range of the array that would be at
+	 * relative position q if the range was sorted.
+	 * 
+	 * @param values
+	 *            the array to select from.
+	 * @param from
+	 *            the first index of the range (inclusive).
+	 * @param to
+	 *            the last index of the range (exclusive).
+	 * @param q
+	 *            the quantile to select, within [0,1].
+	 * @return the selected value.
+	 */
+	public static double quantile(double[] values, int from, int to, double q)
+	{
+		if (q < 0 || q > 1) {
+			throw new IllegalArgumentException(
+					"'q' must be in [0,1], currently is: '" + q + "'");
+		}
+		int n = to - from;
+		int k = Math.min(n - 1, (int) (q * n));
+		return select(values, from, to, from + k);
+	}
+
+	private static void swap(double[] values, int i, int j)
+	{
+		double tmp = values[i];
+		values[i] = values[j];
+		values[j] = tmp;
+	}
+
+}
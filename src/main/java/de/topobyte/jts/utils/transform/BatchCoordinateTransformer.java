@@ -0,0 +1,60 @@
+// Copyright 2026 Sebastian Kuerten
+//
+// This file is part of jts-utils.
+//
+// jts-utils is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// jts-utils is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with jts-utils. If not, see <http://www.gnu.org/licenses/>.
+
+package de.topobyte.jts.utils.transform;
+
+import de.topobyte.jgs.transform.CoordinateTransformer;
+
+/**
+ * A {@link CoordinateTransformer} that is able to transform whole arrays of
+ * coordinates at once, which allows implementations to avoid the per-vertex
+ * method dispatch and to use loops that the JIT compiler can vectorize.
+ * 
+ * @author Sebastian Kuerten (sebastian@topobyte.de)
+ */
+public interface BatchCoordinateTransformer extends CoordinateTransformer
+{
+
+	/**
+	 * Transform the coordinates (xs[i], ys[i]) for all i in [0, n) in place.
+	 * The result of transforming a coordinate must be the same as computing
+	 * getX(xs[i]) and getY(ys[i]) individually.
+	 * 
+	 * @param xs
+	 *            the x values.
+	 * @param ys
+	 *            the y values.
+	 * @param n
+	 *            the number of coordinates to transform, the arrays may be
+	 *            larger.
+	 */
+	public void transform(double[] xs, double[] ys, int n);
+
+	/**
+	 * Transform all coordinates (xs[i], ys[i]) in place.
+	 * 
+	 * @param xs
+	 *            the x values.
+	 * @param ys
+	 *            the y values.
+	 */
+	public default void transform(double[] xs, double[] ys)
+	{
+		transform(xs, ys, xs.length);
+	}
+
+}
@@ -17,42 +17,384 @@
 
 package de.topobyte.jts.utils.transform;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.CoordinateSequenceFactory;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 import org.locationtech.jts.geom.util.GeometryTransformer;
 
 import de.topobyte.jgs.transform.CoordinateTransformer;
 
 /**
+ * A geometry transformer that applies a {@link CoordinateTransformer} to each
+ * coordinate of a geometry. Ordinates beyond x and y such as z and m values
+ * are preserved unchanged.
+ * 
+ * Sequences of type {@link PackedCoordinateSequence.Double} are transformed
+ * by operating on their backing arrays directly. In in-place mode, those
+ * arrays are modified and shared with the result instead of being copied,
+ * which means that the input geometry must not be used any longer after the
+ * transformation. Other sequence types are always copied.
+ * 
+ * If the coordinate transformer implements
+ * {@link BatchCoordinateTransformer}, coordinates are transformed in batches
+ * rather than one at a time.
+ * 
+ * Optionally, the children of large geometry collections can be transformed
+ * in parallel on a {@link ForkJoinPool}. The transformed children are
+ * reassembled in their original order. In that case, the coordinate
+ * transformer is invoked from multiple threads concurrently and needs to be
+ * thread-safe. Each parallel task uses its own transformer created by
+ * {@link #createTaskTransformer()}, subclasses that override any of the
+ * transform methods need to override that method as well.
+ * 
+ * Instances are not thread-safe.
+ * 
  * @author Sebastian Kuerten (sebastian@topobyte.de)
  */
 public class CoordinateGeometryTransformer extends GeometryTransformer
 {
 
 	private CoordinateTransformer ct;
+	private BatchCoordinateTransformer bct;
+	private boolean inPlace;
+
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+
+	private ForkJoinPool pool;
+	private int parallelThreshold;
+
+	private double[] bufferX = new double[0];
+	private double[] bufferY = new double[0];
 
 	/**
 	 * @param ct
 	 *            the coordinate transformation to use.
 	 */
 	public CoordinateGeometryTransformer(CoordinateTransformer ct)
+	{
+		this(ct, false);
+	}
+
+	/**
+	 * @param ct
+	 *            the coordinate transformation to use.
+	 * @param inPlace
+	 *            whether to modify the backing arrays of packed coordinate
+	 *            sequences instead of copying them.
+	 */
+	public CoordinateGeometryTransformer(CoordinateTransformer ct,
+			boolean inPlace)
+	{
+		this(ct, inPlace, null, DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * @param ct
+	 *            the coordinate transformation to use.
+	 * @param inPlace
+	 *            whether to modify the backing arrays of packed coordinate
+	 *            sequences instead of copying them.
+	 * @param pool
+	 *            the pool to transform the children of large collections on or
+	 *            null to transform everything on the calling thread.
+	 * @param parallelThreshold
+	 *            collections with at least this number of points are
+	 *            transformed in parallel.
+	 */
+	public CoordinateGeometryTransformer(CoordinateTransformer ct,
+			boolean inPlace, ForkJoinPool pool, int parallelThreshold)
 	{
 		this.ct = ct;
+		this.inPlace = inPlace;
+		this.pool = pool;
+		this.parallelThreshold = parallelThreshold;
+		if (ct instanceof BatchCoordinateTransformer) {
+			bct = (BatchCoordinateTransformer) ct;
+		}
+	}
+
+	public boolean isInPlace()
+	{
+		return inPlace;
+	}
+
+	public ForkJoinPool getPool()
+	{
+		return pool;
+	}
+
+	public int getParallelThreshold()
+	{
+		return parallelThreshold;
 	}
 
 	@Override
 	protected CoordinateSequence transformCoordinates(
 			CoordinateSequence coords, Geometry parent)
 	{
+		if (coords instanceof PackedCoordinateSequence.Double) {
+			return transformPacked((PackedCoordinateSequence.Double) coords);
+		}
+
+		int size = coords.size();
+		int dimension = coords.getDimension();
+		int measures = coords.getMeasures();
+
 		CoordinateSequenceFactory csf = factory.getCoordinateSequenceFactory();
-		CoordinateSequence cs = csf
-				.create(coords.size(), coords.getDimension());
-		for (int i = 0; i < coords.size(); i++) {
-			cs.setOrdinate(i, 0, ct.getX(coords.getX(i)));
-			cs.setOrdinate(i, 1, ct.getY(coords.getY(i)));
+		CoordinateSequence cs = csf.create(size, dimension, measures);
+		for (int i = 0; i < size; i++) {
+			for (int d = 2; d < dimension; d++) {
+				cs.setOrdinate(i, d, coords.getOrdinate(i, d));
+			}
+		}
+
+		if (bct == null) {
+			for (int i = 0; i < size; i++) {
+				cs.setOrdinate(i, 0, ct.getX(coords.getX(i)));
+				cs.setOrdinate(i, 1, ct.getY(coords.getY(i)));
+			}
+			return cs;
+		}
+
+		ensureBuffers(size);
+		for (int i = 0; i < size; i++) {
+			bufferX[i] = coords.getX(i);
+			bufferY[i] = coords.getY(i);
+		}
+		bct.transform(bufferX, bufferY, size);
+		for (int i = 0; i < size; i++) {
+			cs.setOrdinate(i, 0, bufferX[i]);
+			cs.setOrdinate(i, 1, bufferY[i]);
 		}
 		return cs;
 	}
 
+	private CoordinateSequence transformPacked(
+			PackedCoordinateSequence.Double coords)
+	{
+		int dimension = coords.getDimension();
+		double[] raw = coords.getRawCoordinates();
+		if (!inPlace) {
+			raw = raw.clone();
+		}
+		transformPacked(raw, dimension);
+		// Always create a new sequence, the input sequence may have cached
+		// Coordinate objects with the original values
+		return new PackedCoordinateSequence.Double(raw, dimension,
+				coords.getMeasures());
+	}
+
+	/**
+	 * Transform the x and y values of the specified array of interleaved
+	 * ordinates in place.
+	 */
+	private void transformPacked(double[] raw, int dimension)
+	{
+		int size = raw.length / dimension;
+
+		if (bct == null) {
+			for (int k = 0; k < raw.length; k += dimension) {
+				raw[k] = ct.getX(raw[k]);
+				raw[k + 1] = ct.getY(raw[k + 1]);
+			}
+			return;
+		}
+
+		ensureBuffers(size);
+		for (int i = 0, k = 0; i < size; i++, k += dimension) {
+			bufferX[i] = raw[k];
+			bufferY[i] = raw[k + 1];
+		}
+		bct.transform(bufferX, bufferY, size);
+		for (int i = 0, k = 0; i < size; i++, k += dimension) {
+			raw[k] = bufferX[i];
+			raw[k + 1] = bufferY[i];
+		}
+	}
+
+	private void ensureBuffers(int size)
+	{
+		if (bufferX.length < size) {
+			bufferX = new double[size];
+			bufferY = new double[size];
+		}
+	}
+
+	private boolean isParallel(GeometryCollection collection)
+	{
+		return pool != null && collection.getNumGeometries() > 1
+				&& collection.getNumPoints() >= parallelThreshold;
+	}
+
+	@Override
+	protected Geometry transformMultiPoint(MultiPoint geom, Geometry parent)
+	{
+		if (!isParallel(geom)) {
+			return super.transformMultiPoint(geom, parent);
+		}
+		List<Geometry> parts = transformParallel(geom);
+		if (parts.isEmpty()) {
+			return factory.createMultiPoint();
+		}
+		return factory.buildGeometry(parts);
+	}
+
+	@Override
+	protected Geometry transformMultiLineString(MultiLineString geom,
+			Geometry parent)
+	{
+		if (!isParallel(geom)) {
+			return super.transformMultiLineString(geom, parent);
+		}
+		List<Geometry> parts = transformParallel(geom);
+		if (parts.isEmpty()) {
+			return factory.createMultiLineString();
+		}
+		return factory.buildGeometry(parts);
+	}
+
+	@Override
+	protected Geometry transformMultiPolygon(MultiPolygon geom,
+			Geometry parent)
+	{
+		if (!isParallel(geom)) {
+			return super.transformMultiPolygon(geom, parent);
+		}
+		List<Geometry> parts = transformParallel(geom);
+		if (parts.isEmpty()) {
+			return factory.createMultiPolygon();
+		}
+		return factory.buildGeometry(parts);
+	}
+
+	@Override
+	protected Geometry transformGeometryCollection(GeometryCollection geom,
+			Geometry parent)
+	{
+		if (!isParallel(geom)) {
+			return super.transformGeometryCollection(geom, parent);
+		}
+		List<Geometry> parts = transformParallel(geom);
+		return factory
+				.createGeometryCollection(GeometryFactory.toGeometryArray(parts));
+	}
+
+	/**
+	 * Create the transformer used by a parallel task. Transformers are
+	 * stateful, hence each task needs its own instance. Subclasses that
+	 * override any of the transform methods need to return an instance of
+	 * their own class here, otherwise their overrides are not applied to the
+	 * children of collections that are transformed in parallel.
+	 */
+	protected CoordinateGeometryTransformer createTaskTransformer()
+	{
+		return new CoordinateGeometryTransformer(ct, inPlace, pool,
+				parallelThreshold);
+	}
+
+	/**
+	 * Transform the n'th child of the collection the same way the sequential
+	 * implementation does, i.e. the components of multi geometries using the
+	 * method for their type with the collection as parent and the children
+	 * of other collections using {@link #transform(Geometry)}.
+	 */
+	private static Geometry transformPart(
+			CoordinateGeometryTransformer transformer,
+			GeometryCollection collection, int n)
+	{
+		Geometry child = collection.getGeometryN(n);
+		if (collection instanceof MultiPoint) {
+			return transformer.transformPoint((Point) child, collection);
+		} else if (collection instanceof MultiLineString) {
+			return transformer.transformLineString((LineString) child,
+					collection);
+		} else if (collection instanceof MultiPolygon) {
+			return transformer.transformPolygon((Polygon) child, collection);
+		}
+		return transformer.transform(child);
+	}
+
+	/**
+	 * Transform the children of the specified collection in parallel. Null
+	 * and empty results are omitted, just like the sequential implementation
+	 * does. The sequential implementation of {@link GeometryTransformer}
+	 * always prunes empty children of geometry collections and preserves the
+	 * collection type, these flags cannot be configured.
+	 */
+	private List<Geometry> transformParallel(GeometryCollection collection)
+	{
+		PartsTask task = new PartsTask(collection, 0,
+				collection.getNumGeometries());
+		if (ForkJoinTask.getPool() == pool) {
+			// nested collection, we're already running on a worker thread
+			return task.invoke();
+		}
+		return pool.invoke(task);
+	}
+
+	private class PartsTask extends RecursiveTask<List<Geometry>>
+	{
+
+		private static final long serialVersionUID = 1L;
+
+		private GeometryCollection collection;
+		private int from;
+		private int to;
+
+		PartsTask(GeometryCollection collection, int from, int to)
+		{
+			this.collection = collection;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected List<Geometry> compute()
+		{
+			int numPoints = 0;
+			for (int i = from; i < to; i++) {
+				numPoints += collection.getGeometryN(i).getNumPoints();
+			}
+
+			if (to - from == 1 || numPoints < parallelThreshold) {
+				// Each task needs its own transformer as transformers are
+				// stateful
+				CoordinateGeometryTransformer transformer = createTaskTransformer();
+				transformer.factory = factory;
+				List<Geometry> results = new ArrayList<>(to - from);
+				for (int i = from; i < to; i++) {
+					Geometry part = transformPart(transformer, collection, i);
+					if (part != null && !part.isEmpty()) {
+						results.add(part);
+					}
+				}
+				return results;
+			}
+
+			int mid = (from + to) >>> 1;
+			PartsTask left = new PartsTask(collection, from, mid);
+			PartsTask right = new PartsTask(collection, mid, to);
+			right.fork();
+			List<Geometry> results = left.compute();
+			results.addAll(right.join());
+			return results;
+		}
+
+	}
+
 }